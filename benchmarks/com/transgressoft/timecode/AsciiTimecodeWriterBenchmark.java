@@ -0,0 +1,64 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for writing timecodes to a text file with an {@link AsciiTimecodeWriter},
+ * compared with writing a <tt>String</tt> per line with a <tt>BufferedWriter</tt>.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (AsciiTimecodeWriterBenchmark.TIMECODES)
+public class AsciiTimecodeWriterBenchmark {
+
+	static final int TIMECODES = 1 << 20;
+
+	Path file;
+	long[] packedTimecodes = new long[TIMECODES];
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(42);
+		for (int i = 0; i < TIMECODES; i++)
+			packedTimecodes[i] = PackedTimecode.pack(DF30, random.nextInt(DF30.getFrameCountLimit()));
+		file = Files.createTempFile("timecodes", ".txt");
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public void asciiWriter() throws IOException {
+		try (AsciiTimecodeWriter writer = AsciiTimecodeWriter.open(file, AsciiTimecodeWriter.DEFAULT_BUFFER_SIZE,
+																   false)) {
+			for (long packedTimecode : packedTimecodes)
+				writer.write(packedTimecode);
+		}
+	}
+
+	@Benchmark
+	public void bufferedWriter() throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+			for (long packedTimecode : packedTimecodes) {
+				writer.write(PackedTimecode.format(packedTimecode));
+				writer.newLine();
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for reading and writing an EDL of {@value #EVENTS} events in memory,
+ * with a comment line after every event. Each event and its comment take about
+ * 100 bytes, so the bytes per second are about 100 times the events per second.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (EdlBenchmark.EVENTS)
+public class EdlBenchmark {
+
+	static final int EVENTS = 10000;
+
+	@Param ({"25fps", "30DF"})
+	String frameRate;
+
+	FrameRateType frameRateType;
+	byte[] edl;
+	ByteArrayOutputStream output = new ByteArrayOutputStream(EVENTS * 128);
+
+	@Setup
+	public void setUp() throws Exception {
+		frameRateType = FrameRateType.fromString(frameRate);
+		writeEdl();
+		edl = output.toByteArray();
+	}
+
+	@Benchmark
+	public int read() throws Exception {
+		int frames = 0;
+		try (EdlReader reader = new EdlReader(Channels.newChannel(new ByteArrayInputStream(edl)), frameRateType)) {
+			while (reader.next())
+				frames += reader.getRecordOut() - reader.getRecordIn();
+		}
+		return frames;
+	}
+
+	@Benchmark
+	public int write() throws Exception {
+		writeEdl();
+		return output.size();
+	}
+
+	private void writeEdl() throws IOException {
+		output.reset();
+		try (EdlWriter writer = new EdlWriter(Channels.newChannel(output), frameRateType)) {
+			writer.writeHeader("BENCHMARK");
+			for (int event = 0; event < EVENTS; event++) {
+				int in = event * 250 % FPS24.getFrameCountLimit();
+				writer.writeEvent(event + 1, "AX", "V", "C", - 1, in, in + 125, event * 125, event * 125 + 125);
+				writer.writeComment("FROM CLIP NAME: CLIP");
+			}
+		}
+	}
+}
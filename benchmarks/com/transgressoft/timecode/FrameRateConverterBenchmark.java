@@ -0,0 +1,69 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for the conversion of batches of timecodes between frame rates,
+ * as arrays of frame counts and as streams of packed timecodes.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (FrameRateConverterBenchmark.BATCH_SIZE)
+public class FrameRateConverterBenchmark {
+
+	static final int BATCH_SIZE = 1 << 16;
+
+	/**
+	 * The mapping of the conversion
+	 */
+	@Param ({"speedChange", "pulldown", "realTime"})
+	String conversion;
+
+	FrameRateConverter converter;
+	int[] frameCounts = new int[BATCH_SIZE];
+	int[] results = new int[BATCH_SIZE];
+	long[] packedTimecodes = new long[BATCH_SIZE];
+
+	@Setup
+	public void setUp() {
+		switch (conversion) {
+			case "speedChange":
+				converter = FrameRateConverter.speedChange(FPS25, FPS24);
+				break;
+			case "pulldown":
+				converter = FrameRateConverter.pulldown(FPS24, FPS30, 0);
+				break;
+			default:
+				converter = FrameRateConverter.realTime(FPS30, DF30, RoundingMode.HALF_EVEN);
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			frameCounts[i] = random.nextInt(FPS24.getFrameCountLimit());
+			packedTimecodes[i] = PackedTimecode.pack(converter.getSourceFrameRate(), frameCounts[i]);
+		}
+	}
+
+	@Benchmark
+	public int[] convertArray() throws TimecodeException {
+		converter.convert(frameCounts, results);
+		return results;
+	}
+
+	@Benchmark
+	public long convertPackedStream() {
+		return converter.tryConvert(Arrays.stream(packedTimecodes)).sum();
+	}
+}
@@ -0,0 +1,117 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for batches of timecodes of one frame rate and of several ones alternated,
+ * like the lines of a file that mixes frame rates. The batches of several frame rates mix
+ * the classes of {@link Timecode}, so they measure whether the calls through the interface
+ * remain as fast as with a single class.
+ *
+ * <p>On a single frame rate the escape analysis of the JIT removes the allocation of the
+ * timecodes that are not kept, which it doesn't do when the timecodes can be of several classes.
+ * The benchmarks that keep the timecodes compare both batches allocating the same objects.</p>
+ *
+ * <p>The baseline of the <tt>mixed</tt> batch is the <tt>grouped</tt> one: the same frame rates in the same
+ * proportions, 30DF among them, but each one on a run of consecutive timecodes, so that it weighs the frame
+ * rates like the mixed batch and only the alternation between them differs.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (MixedFrameRateBenchmark.BATCH_SIZE)
+public class MixedFrameRateBenchmark {
+
+	static final int BATCH_SIZE = 1024;
+
+	/**
+	 * Frame rates alternated on every timecode of the batch of the <tt>mixed</tt> parameter
+	 */
+	static final String[] MIXED_FRAME_RATES = {"24fps", "25fps", "30fps", "30DF", "50fps"};
+
+	/**
+	 * The frame rate of all the timecodes of the batch, <tt>mixed</tt> or <tt>grouped</tt>
+	 */
+	@Param ({"24fps", "30DF", "50fps", "mixed", "grouped"})
+	String frameRate;
+
+	FrameRateType[] frameRateTypes = new FrameRateType[BATCH_SIZE];
+	int[] frameCounts = new int[BATCH_SIZE];
+	Timecode[] timecodes = new Timecode[BATCH_SIZE];
+	Timecode[] operands = new Timecode[BATCH_SIZE];
+	Timecode[] results = new Timecode[BATCH_SIZE];
+
+	@Setup
+	public void setUp() throws TimecodeException {
+		boolean several = "mixed".equals(frameRate) || "grouped".equals(frameRate);
+		String[] names = several ? MIXED_FRAME_RATES : new String[]{frameRate};
+		int runLength = "grouped".equals(frameRate) ? (BATCH_SIZE + names.length - 1) / names.length : 1;
+		Random random = new Random(42);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			frameRateTypes[i] = FrameRateType.fromString(names[i / runLength % names.length]);
+			frameCounts[i] = random.nextInt(frameRateTypes[i].getFrameCountLimit() / 2);
+			timecodes[i] = TimecodeFactory.createTimeCode(frameRateTypes[i], frameCounts[i]);
+			operands[i] = TimecodeFactory.createTimeCode(frameRateTypes[i], random.nextInt(frameCounts[i] + 1));
+		}
+	}
+
+	@Benchmark
+	public int createAndGetUnits() {
+		int sum = 0;
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			Timecode timecode = TimecodeFactory.createTimeCode(frameRateTypes[i], frameCounts[i]);
+			sum += timecode.getHours() + timecode.getMinutes() + timecode.getSeconds() + timecode.getFrames();
+		}
+		return sum;
+	}
+
+	/**
+	 * Like {@link #createAndGetUnits()}, keeping the timecodes so that their allocation
+	 * is not removed by the escape analysis on the batches of a single frame rate
+	 */
+	@Benchmark
+	public int createKeepAndGetUnits() {
+		int sum = 0;
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			Timecode timecode = TimecodeFactory.createTimeCode(frameRateTypes[i], frameCounts[i]);
+			results[i] = timecode;
+			sum += timecode.getHours() + timecode.getMinutes() + timecode.getSeconds() + timecode.getFrames();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public void createAndFormat(Blackhole blackhole) {
+		for (int i = 0; i < BATCH_SIZE; i++)
+			blackhole.consume(TimecodeFactory.createTimeCode(frameRateTypes[i], frameCounts[i])
+											 .getStringRepresentation());
+	}
+
+	@Benchmark
+	public int addAndSubtract() throws TimecodeException {
+		int sum = 0;
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			results[i] = timecodes[i].add(operands[i]);
+			sum += timecodes[i].subtract(operands[i]).getFrames();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int packFrameCount() {
+		int sum = 0;
+		for (int i = 0; i < BATCH_SIZE; i++)
+			sum += PackedTimecode.frames(PackedTimecode.tryPack(frameRateTypes[i], frameCounts[i]));
+		return sum;
+	}
+}
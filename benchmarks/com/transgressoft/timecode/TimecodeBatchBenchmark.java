@@ -0,0 +1,79 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for the bulk conversions of {@link TimecodeBatch} compared with
+ * converting the same frame counts one by one through {@link TimecodeFactory}.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeBatchBenchmark {
+
+	static final int BATCH_SIZE = 4096;
+
+	@Param ({"24fps", "25fps", "30fps", "30DF", "23.976fps", "50fps", "60DF", "120fps"})
+	String frameRate;
+
+	FrameRateType frameRateType;
+
+	int[] frameCounts;
+	int[] parsedFrameCounts;
+	int[] units;
+	byte[] records;
+	int recordLength;
+
+	@Setup
+	public void setUp() throws TimecodeException {
+		frameRateType = FrameRateType.fromString(frameRate);
+		frameCounts = new int[BATCH_SIZE];
+		for (int i = 0; i < BATCH_SIZE; i++)
+			frameCounts[i] = (int) ((long) i * (frameRateType.getFrameCountLimit() - 1) / BATCH_SIZE);
+		parsedFrameCounts = new int[BATCH_SIZE];
+		units = new int[BATCH_SIZE];
+		recordLength = TimecodeBatch.recordLength(frameRateType);
+		records = new byte[BATCH_SIZE * recordLength];
+		TimecodeBatch.format(frameRateType, frameCounts, records);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (BATCH_SIZE)
+	public byte[] formatBatch() {
+		TimecodeBatch.format(frameRateType, frameCounts, records);
+		return records;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (BATCH_SIZE)
+	public int[] parseBatch() throws TimecodeException {
+		TimecodeBatch.parse(frameRateType, records, parsedFrameCounts);
+		return parsedFrameCounts;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (BATCH_SIZE)
+	public int[] countUnits() {
+		TimecodeBatch.countUnits(frameRateType, frameCounts, units);
+		return units;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (BATCH_SIZE)
+	public byte[] formatOneByOne() {
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			String string = TimecodeFactory.createTimeCode(frameRateType, frameCounts[i]).getStringRepresentation();
+			for (int c = 0; c < recordLength; c++)
+				records[i * recordLength + c] = (byte) string.charAt(c);
+		}
+		return records;
+	}
+}
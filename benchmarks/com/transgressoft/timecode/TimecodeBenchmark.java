@@ -0,0 +1,68 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for the creation, string representation and arithmetic of the
+ * {@link Timecode} implementations of every {@link FrameRateType}. The frame rates
+ * without a class of their own, like 23.976 or 120 fps, use {@link GenericTimecode}.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeBenchmark {
+
+	@Param ({"24fps", "25fps", "30fps", "30DF", "23.976fps", "50fps", "60DF", "120fps"})
+	String frameRate;
+
+	FrameRateType frameRateType;
+
+	int hours = 12;
+	int minutes = 34;
+	int seconds = 56;
+	int frames = 12;
+	int frameCount = 1234567;
+
+	Timecode timecode;
+	Timecode operand;
+
+	@Setup
+	public void setUp() throws TimecodeException {
+		frameRateType = FrameRateType.fromString(frameRate);
+		timecode = TimecodeFactory.createTimeCode(frameRateType, frameCount);
+		operand = TimecodeFactory.createTimeCode(frameRateType, 1, 2, 3, 4);
+	}
+
+	@Benchmark
+	public Timecode createTimeCodeFromUnits() {
+		return TimecodeFactory.createTimeCode(frameRateType, hours, minutes, seconds, frames);
+	}
+
+	@Benchmark
+	public Timecode createTimeCodeFromFrameCount() {
+		return TimecodeFactory.createTimeCode(frameRateType, frameCount);
+	}
+
+	@Benchmark
+	public String getStringRepresentation() {
+		return timecode.getStringRepresentation();
+	}
+
+	@Benchmark
+	public Timecode add() throws TimecodeException {
+		return timecode.add(operand);
+	}
+
+	@Benchmark
+	public Timecode subtract() throws TimecodeException {
+		return timecode.subtract(operand);
+	}
+}
@@ -0,0 +1,68 @@
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeIndex.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for the nearest frame count queries of a {@link TimecodeIndex} of random markers
+ * along the day, with both layouts, compared with a linear search over the markers.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (TimecodeIndexBenchmark.QUERIES)
+public class TimecodeIndexBenchmark {
+
+	static final int QUERIES = 1024;
+
+	@Param ({"1000", "1000000"})
+	int markers;
+
+	@Param ({"SORTED", "EYTZINGER"})
+	Layout layout;
+
+	int[] frameCounts;
+	int[] queries = new int[QUERIES];
+	TimecodeIndex index;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		frameCounts = random.ints(markers, 0, FPS25.getFrameCountLimit()).toArray();
+		for (int i = 0; i < QUERIES; i++)
+			queries[i] = random.nextInt(FPS25.getFrameCountLimit());
+		index = TimecodeIndex.of(FPS25, frameCounts, layout);
+	}
+
+	@Benchmark
+	public int nearest() {
+		int sum = 0;
+		for (int query : queries)
+			sum += index.nearest(query);
+		return sum;
+	}
+
+	@Benchmark
+	public int linearSearch() {
+		int sum = 0;
+		for (int query : queries) {
+			int nearest = - 1;
+			for (int frameCount : frameCounts)
+				if (nearest < 0 || Math.abs(frameCount - query) < Math.abs(nearest - query))
+					nearest = frameCount;
+			sum += nearest;
+		}
+		return sum;
+	}
+}
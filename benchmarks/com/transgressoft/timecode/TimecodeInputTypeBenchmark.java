@@ -0,0 +1,45 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for the per call cost of classifying a value as a {@link TimecodeInputType},
+ * comparing {@link TimecodeInputType#fromString(String)} with the regular expressions
+ * it used before.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeInputTypeBenchmark {
+
+	@Param ({"12:34:56:12", "12:34:56;12", "1234567"})
+	String value;
+
+	@Benchmark
+	public TimecodeInputType regularExpressions() {
+		TimecodeInputType timecodeInputType = null;
+		if (value.matches("\\d{2}:\\d{2}:\\d{2}[;:]\\d{2}"))
+			timecodeInputType = TimecodeInputType.UNITS_INPUT_TYPE;
+		else if (value.matches("\\d+"))
+			timecodeInputType = TimecodeInputType.FRAME_COUNT_INPUT_TYPE;
+		return timecodeInputType;
+	}
+
+	@Benchmark
+	public TimecodeInputType fromString() throws TimecodeException {
+		return TimecodeInputType.fromString(value);
+	}
+
+	@Benchmark
+	public int scan() {
+		return TimecodeInputType.scan(value);
+	}
+}
@@ -0,0 +1,73 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for the build and the queries of a {@link TimecodeRangeIndex} of
+ * clips of random length along the day, most of them short and some long.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeRangeIndexBenchmark {
+
+	static final int QUERIES = 1024;
+
+	@Param ({"100000", "1000000"})
+	int ranges;
+
+	int[] ins;
+	int[] outs;
+	int[] frames = new int[QUERIES];
+	TimecodeRangeIndex index;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		int frameCountLimit = FPS25.getFrameCountLimit();
+		ins = new int[ranges];
+		outs = new int[ranges];
+		for (int i = 0; i < ranges; i++) {
+			ins[i] = random.nextInt(frameCountLimit);
+			int length = random.nextInt(10) == 0 ? random.nextInt(25 * 600) : random.nextInt(25 * 10);
+			outs[i] = Math.min(ins[i] + length, frameCountLimit);
+		}
+		for (int i = 0; i < QUERIES; i++)
+			frames[i] = random.nextInt(frameCountLimit);
+		index = TimecodeRangeIndex.of(FPS25, ins, outs);
+	}
+
+	@Benchmark
+	public TimecodeRangeIndex build() {
+		return TimecodeRangeIndex.of(FPS25, ins, outs);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (QUERIES)
+	public int covering() {
+		int found = 0;
+		for (int frame : frames)
+			found += index.covering(frame).length;
+		return found;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (QUERIES)
+	public int countOverlapping() {
+		int found = 0;
+		for (int frame : frames)
+			found += index.countOverlapping(frame, frame + 25 * 60);
+		return found;
+	}
+}
@@ -0,0 +1,65 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+
+/**
+ * Benchmarks for reading the frame counts of a timecode records file mapped in memory,
+ * compared with parsing the same timecodes from fixed width text records.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@OperationsPerInvocation (TimecodeRecordsBenchmark.RECORDS)
+public class TimecodeRecordsBenchmark {
+
+	static final int RECORDS = 1 << 20;
+
+	Path file;
+	TimecodeRecordReader reader;
+	byte[] textRecords = new byte[RECORDS * TimecodeBatch.RECORD_LENGTH];
+	int[] frameCounts = new int[RECORDS];
+
+	@Setup
+	public void setUp() throws Exception {
+		int[] values = new Random(42).ints(RECORDS, 0, FPS25.getFrameCountLimit()).toArray();
+		TimecodeBatch.format(FPS25, values, textRecords);
+		file = Files.createTempFile("timecodes", ".bin");
+		try (TimecodeRecordWriter writer = new TimecodeRecordWriter(FileChannel.open(file, StandardOpenOption.WRITE),
+																	FPS25)) {
+			writer.write(values, 0, RECORDS);
+		}
+		reader = TimecodeRecordReader.open(file);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		reader.close();
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public int[] readRecords() {
+		reader.read(0, frameCounts, 0, RECORDS);
+		return frameCounts;
+	}
+
+	@Benchmark
+	public int[] parseText() throws TimecodeException {
+		TimecodeBatch.parse(FPS25, textRecords, frameCounts);
+		return frameCounts;
+	}
+}
@@ -0,0 +1,43 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for {@link TimecodeString#of(String, String)} with both
+ * {@link TimecodeInputType}s for every {@link FrameRateType}.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeStringBenchmark {
+
+	@Param ({"24fps", "25fps", "30fps", "30DF"})
+	String frameRate;
+
+	String unitsValue;
+	String frameCountValue;
+
+	@Setup
+	public void setUp() {
+		unitsValue = FrameRateType.DF30.toString().equals(frameRate) ? "12:34:56;12" : "12:34:56:12";
+		frameCountValue = "1234567";
+	}
+
+	@Benchmark
+	public TimecodeString ofUnitsInputType() throws TimecodeException {
+		return TimecodeString.of(frameRate, unitsValue);
+	}
+
+	@Benchmark
+	public TimecodeString ofFrameCountInputType() throws TimecodeException {
+		return TimecodeString.of(frameRate, frameCountValue);
+	}
+}
@@ -0,0 +1,66 @@
+package com.transgressoft.timecode;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for the validation of input with invalid values, comparing the parsing
+ * that throws exceptions with {@link PackedTimecode#tryParse(CharSequence, CharSequence)}.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 3, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+public class TimecodeValidationBenchmark {
+
+	static final int VALUES = 1000;
+
+	@Param ({"0", "20"})
+	int invalidPercentage;
+
+	String[] values;
+
+	@Setup
+	public void setUp() {
+		String[] invalidValues = {"12:ab:23:44", "00:00:00:25", "9999999", "12:3"};
+		values = new String[VALUES];
+		for (int i = 0; i < VALUES; i++) {
+			if (i % 100 < invalidPercentage)
+				values[i] = invalidValues[i % invalidValues.length];
+			else
+				values[i] = i % 2 == 0 ? "12:34:56:12" : Integer.toString(i * 1000);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (VALUES)
+	public int parse() {
+		int validValues = 0;
+		for (String value : values) {
+			try {
+				TimecodeParser.parse("25fps", value);
+				validValues++;
+			}
+			catch (TimecodeException | IllegalArgumentException exception) {
+				// invalid value
+			}
+		}
+		return validValues;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation (VALUES)
+	public int tryParse() {
+		int validValues = 0;
+		for (String value : values)
+			if (! PackedTimecode.isError(PackedTimecode.tryParse("25fps", value)))
+				validValues++;
+		return validValues;
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.nio.*;
+
+/**
+ * Reusable {@link CharSequence} view over a range of ASCII bytes of a {@link ByteBuffer}.
+ * Allows to parse values straight from a buffer without creating a <tt>String</tt> for each one.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class AsciiCharSequence implements CharSequence {
+
+	private final ByteBuffer buffer;
+	private int offset;
+	private int length;
+
+	AsciiCharSequence(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Moves the view to the given range of the buffer
+	 *
+	 * @param offset The absolute position in the buffer of the first byte
+	 * @param length The number of bytes
+	 *
+	 * @return The object itself
+	 */
+	AsciiCharSequence view(int offset, int length) {
+		this.offset = offset;
+		this.length = length;
+		return this;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length)
+			throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+		return (char) (buffer.get(offset + index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().subSequence(start, end);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder stringBuilder = new StringBuilder(length);
+		for (int i = 0; i < length; i++)
+			stringBuilder.append(charAt(i));
+		return stringBuilder.toString();
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Writer of timecodes to a file as lines of ASCII text, hh:mm:ss:ff (or hh:mm:ss;ff on drop
+ * frame rates). The timecodes are formatted straight into a reusable {@link ByteBuffer}, without
+ * a <tt>String</tt> nor any charset encoding per line, and the buffer is written to a
+ * {@link FileChannel}, or any other channel, when it's full.
+ *
+ * <p>Optionally, the file is synced to the storage device when the writer is closed, so that
+ * the timecodes written are not lost if the system crashes afterwards.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class AsciiTimecodeWriter implements Closeable, Flushable {
+
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Maximum length of a line
+	 */
+	private static final int MAX_LINE_LENGTH = PackedTimecode.STRING_LENGTH + LINE_SEPARATOR.length;
+
+	private final WritableByteChannel channel;
+
+	/**
+	 * The file channel synced when the writer is closed, or <tt>null</tt> if it was not requested
+	 */
+	private final FileChannel syncedChannel;
+	private final ByteBuffer buffer;
+	private final byte[] bytes;
+
+	/**
+	 * Creates a writer to the given channel
+	 *
+	 * @param channel    The channel of the file
+	 * @param bufferSize The size in bytes of the buffer
+	 * @param sync       Whether to sync the file to the storage device when the writer is closed
+	 *
+	 * @throws IllegalArgumentException If the buffer is too small for a line
+	 */
+	public AsciiTimecodeWriter(FileChannel channel, int bufferSize, boolean sync) {
+		this(channel, bufferSize, sync ? channel : null);
+	}
+
+	/**
+	 * Creates a writer to the given channel, for example of a compressed output stream
+	 *
+	 * @param channel    The channel
+	 * @param bufferSize The size in bytes of the buffer
+	 *
+	 * @throws IllegalArgumentException If the buffer is too small for a line
+	 */
+	public AsciiTimecodeWriter(WritableByteChannel channel, int bufferSize) {
+		this(channel, bufferSize, null);
+	}
+
+	private AsciiTimecodeWriter(WritableByteChannel channel, int bufferSize, FileChannel syncedChannel) {
+		checkArgument(bufferSize >= MAX_LINE_LENGTH, "Buffer size must be %s bytes at least", MAX_LINE_LENGTH);
+		this.channel = channel;
+		this.syncedChannel = syncedChannel;
+		bytes = new byte[bufferSize];
+		buffer = ByteBuffer.wrap(bytes);
+	}
+
+	/**
+	 * Creates a writer to the file of the given path, creating it or truncating it if it exists
+	 *
+	 * @param path       The path of the file
+	 * @param bufferSize The size in bytes of the buffer
+	 * @param sync       Whether to sync the file to the storage device when the writer is closed
+	 *
+	 * @return The writer
+	 *
+	 * @throws IOException If the file can't be opened
+	 */
+	public static AsciiTimecodeWriter open(Path path, int bufferSize, boolean sync) throws IOException {
+		return new AsciiTimecodeWriter(FileChannel.open(path, CREATE, WRITE, TRUNCATE_EXISTING), bufferSize, sync);
+	}
+
+	/**
+	 * Creates a writer to the given channel that starts writing at the given position, without
+	 * using the position of the channel, so that several writers can write their own region of
+	 * the same file concurrently. Closing the writer doesn't close the channel.
+	 *
+	 * @param channel    The channel of the file
+	 * @param position   The position of the file where the first line is written
+	 * @param bufferSize The size in bytes of the buffer
+	 *
+	 * @return The writer
+	 */
+	static AsciiTimecodeWriter at(FileChannel channel, long position, int bufferSize) {
+		return new AsciiTimecodeWriter(new PositionedChannel(channel, position), bufferSize);
+	}
+
+	/**
+	 * @return The length in bytes of the line written for a packed timecode
+	 */
+	static int lineLength(long packedTimecode) {
+		return PackedTimecode.frameRateType(packedTimecode).getStringLength() + LINE_SEPARATOR.length;
+	}
+
+	/**
+	 * Writes the line of a packed timecode
+	 *
+	 * @param packedTimecode The packed timecode
+	 *
+	 * @throws IOException              If the file can't be written
+	 * @throws IllegalArgumentException If it's an error code
+	 */
+	public void write(long packedTimecode) throws IOException {
+		checkArgument(! PackedTimecode.isError(packedTimecode), "Invalid packed timecode %s", packedTimecode);
+		if (buffer.remaining() < MAX_LINE_LENGTH)
+			flush();
+		int position = PackedTimecode.format(packedTimecode, bytes, buffer.position());
+		System.arraycopy(LINE_SEPARATOR, 0, bytes, position, LINE_SEPARATOR.length);
+		buffer.position(position + LINE_SEPARATOR.length);
+	}
+
+	/**
+	 * Writes the lines of <tt>length</tt> frame counts, starting at <tt>from</tt>
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts
+	 * @param from          The index of the first frame count to write
+	 * @param length        The number of frame counts to write
+	 *
+	 * @throws IOException              If the file can't be written
+	 * @throws IllegalArgumentException If a frame count is out of the limits of the frame rate
+	 */
+	public void write(FrameRateType frameRateType, int[] frameCounts, int from, int length) throws IOException {
+		checkArgument(from >= 0 && length >= 0 && from + length <= frameCounts.length, "Invalid frame counts range");
+		for (int i = from; i < from + length; i++)
+			write(PackedTimecode.pack(frameRateType, frameCounts[i]));
+	}
+
+	/**
+	 * Writes the buffer to the file
+	 */
+	@Override
+	public void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * Writes the buffer to the file, syncs it if it was requested, and closes it
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+			if (syncedChannel != null)
+				syncedChannel.force(true);
+		}
+		finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Channel that writes to a file channel from a position of its own, leaving the channel open
+	 */
+	private static final class PositionedChannel implements WritableByteChannel {
+
+		private final FileChannel channel;
+		private long position;
+
+		private PositionedChannel(FileChannel channel, long position) {
+			this.channel = channel;
+			this.position = position;
+		}
+
+		@Override
+		public int write(ByteBuffer source) throws IOException {
+			int written = channel.write(source, position);
+			position += written;
+			return written;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return channel.isOpen();
+		}
+
+		@Override
+		public void close() {}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeException.*;
+
+import java.io.*;
+
+/**
+ * Counts the lines of an input file of the {@link TimecodeStringRunner} that were
+ * converted and the ones that were rejected, by their {@link ErrorCase}.
+ *
+ * <p>Rejected lines are written to the reject file as
+ * <tt>&lt;line_number&gt; &lt;error_case&gt; &lt;line&gt;</tt>.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class ConversionReport {
+
+	private final long[] rejectedLines = new long[ErrorCase.values().length];
+	private long convertedLines;
+
+	/**
+	 * Counts a converted line
+	 */
+	void converted() {
+		convertedLines++;
+	}
+
+	/**
+	 * Counts a rejected line and writes it to the reject file
+	 *
+	 * @param lineNumber The number of the line in the input file, starting at 1
+	 * @param errorCase  The reason of the rejection
+	 * @param line       The rejected line
+	 * @param rejects    The writer of the reject file
+	 */
+	void rejected(long lineNumber, ErrorCase errorCase, CharSequence line, Writer rejects) throws IOException {
+		rejectedLines[errorCase.ordinal()]++;
+		rejects.append(Long.toString(lineNumber)).append(' ').append(errorCase.name()).append(' ').append(line);
+		rejects.append(System.lineSeparator());
+	}
+
+	/**
+	 * Adds the counters of another report, of a part of the same input file
+	 */
+	void add(ConversionReport report) {
+		convertedLines += report.convertedLines;
+		for (int i = 0; i < rejectedLines.length; i++)
+			rejectedLines[i] += report.rejectedLines[i];
+	}
+
+	long getConvertedLines() {
+		return convertedLines;
+	}
+
+	long getRejectedLines(ErrorCase errorCase) {
+		return rejectedLines[errorCase.ordinal()];
+	}
+
+	long getRejectedLines() {
+		long total = 0;
+		for (long count : rejectedLines)
+			total += count;
+		return total;
+	}
+
+	/**
+	 * @return The total number of lines, converted or rejected
+	 */
+	long getLines() {
+		return convertedLines + getRejectedLines();
+	}
+
+	/**
+	 * Prints the number of converted lines and of rejected lines by error case
+	 */
+	void print(PrintStream out, File rejectFile) {
+		out.println("Converted lines: " + convertedLines);
+		out.println("Rejected lines: " + getRejectedLines() + ", written to " + rejectFile.getAbsolutePath());
+		for (ErrorCase errorCase : ErrorCase.values())
+			if (getRejectedLines(errorCase) > 0)
+				out.println("  " + errorCase + ": " + getRejectedLines(errorCase));
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+
+/**
+ * Streaming reader of the events of an EDL in CMX 3600 format, like
+ *
+ * <pre>
+ * TITLE: REEL 1
+ * FCM: NON-DROP FRAME
+ *
+ * 001  AX       V     C        01:00:00:00 01:00:05:00 00:00:00:00 00:00:05:00
+ * * FROM CLIP NAME: CLIP 1
+ * 002  AX       AA/V  D    025 01:00:05:00 01:00:10:00 00:00:05:00 00:00:10:00
+ * </pre>
+ *
+ * <p>The events are read one by one with {@link #next()}, which parses the fields of the event line
+ * straight from the bytes read from the channel. The source and record timecodes are converted to
+ * frame counts, and the reel, channels and transition are given as {@link CharSequence} views of the
+ * buffer, so no <tt>String</tt> nor any other object is created per event.</p>
+ *
+ * <p>The timecodes are of the frame rate given to the reader, switched to its drop frame or non drop
+ * frame counterpart by the <tt>FCM: DROP FRAME</tt> and <tt>FCM: NON-DROP FRAME</tt> lines, like
+ * 30 fps and 29.97 fps drop frame. The comments, the lines of motion effects and any other lines
+ * that are not events are skipped.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class EdlReader implements Closeable {
+
+	static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Maximum number of fields of an event line
+	 */
+	private static final int MAX_FIELDS = 9;
+	private static final byte[] TITLE = "TITLE:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] FCM = "FCM:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] DROP_FRAME = "DROP FRAME".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NON_DROP_FRAME = "NON-DROP FRAME".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NON_DROP_FRAME_SPACED = "NON DROP FRAME".getBytes(StandardCharsets.US_ASCII);
+
+	private final ReadableByteChannel channel;
+	private final FrameRateType nonDropFrameRate;
+	private final FrameRateType dropFrameRate;
+	private FrameRateType frameRateType;
+
+	private byte[] bytes;
+	private AsciiCharSequence reel;
+	private AsciiCharSequence channels;
+	private AsciiCharSequence transition;
+
+	/**
+	 * Position of the next line in the buffer and position after the bytes read
+	 */
+	private int position;
+	private int limit;
+	private boolean endOfInput;
+
+	/**
+	 * Whether the last line ended with a carriage return, which can be followed by a line feed
+	 */
+	private boolean skipLineFeed;
+	private int lineStart;
+	private int lineEnd;
+	private int lineNumber;
+	private final int[] fieldStarts = new int[MAX_FIELDS + 1];
+	private final int[] fieldEnds = new int[MAX_FIELDS + 1];
+
+	private String title;
+	private int eventNumber;
+	private int transitionDuration;
+	private int sourceIn;
+	private int sourceOut;
+	private int recordIn;
+	private int recordOut;
+
+	/**
+	 * Creates a reader of the EDL read from the given channel
+	 *
+	 * @param channel       The channel of the EDL
+	 * @param frameRateType The frame rate of the timecodes, or of their counterpart
+	 *                      of the other frame count mode
+	 */
+	public EdlReader(ReadableByteChannel channel, FrameRateType frameRateType) {
+		this(channel, frameRateType, DEFAULT_BUFFER_SIZE);
+	}
+
+	EdlReader(ReadableByteChannel channel, FrameRateType frameRateType, int bufferSize) {
+		checkArgument(bufferSize > 0, "Invalid buffer size %s", bufferSize);
+		this.channel = channel;
+		this.frameRateType = frameRateType;
+		nonDropFrameRate = frameRateType.isDropFrame() ? counterpart(frameRateType) : frameRateType;
+		dropFrameRate = frameRateType.isDropFrame() ? frameRateType : counterpart(frameRateType);
+		allocate(bufferSize);
+	}
+
+	/**
+	 * @return The frame rate of the other frame count mode with the same frames per second
+	 *         and, if it's non drop frame, the same rate, or <tt>null</tt> if there is none
+	 */
+	private static FrameRateType counterpart(FrameRateType frameRateType) {
+		FrameRateType counterpart = null;
+		for (FrameRateType other : FrameRateType.values())
+			if (counterpart == null && other.isDropFrame() != frameRateType.isDropFrame() &&
+					other.getFrameMax() == frameRateType.getFrameMax() && (other.isDropFrame() ||
+					(long) other.getRateNumerator() * frameRateType.getRateDenominator() ==
+							(long) frameRateType.getRateNumerator() * other.getRateDenominator()))
+				counterpart = other;
+		return counterpart;
+	}
+
+	private void allocate(int bufferSize) {
+		byte[] previousBytes = bytes;
+		bytes = new byte[bufferSize];
+		if (previousBytes != null)
+			System.arraycopy(previousBytes, 0, bytes, 0, limit);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		reel = new AsciiCharSequence(buffer);
+		channels = new AsciiCharSequence(buffer);
+		transition = new AsciiCharSequence(buffer);
+	}
+
+	/**
+	 * Reads the next event. The fields of the previous event are no longer valid, including
+	 * the views of its reel, channels and transition.
+	 *
+	 * @return <tt>true</tt> if there was an event, <tt>false</tt> at the end of the EDL
+	 *
+	 * @throws IOException       If the channel can't be read
+	 * @throws TimecodeException If an event line or an <tt>FCM</tt> line are not well formatted,
+	 *                           or a timecode is not valid, see {@link #getLineNumber()}
+	 */
+	public boolean next() throws IOException, TimecodeException {
+		boolean event = false;
+		while (! event && nextLine())
+			event = parseLine();
+		return event;
+	}
+
+	private boolean nextLine() throws IOException {
+		boolean found = false;
+		while (! found && ! (endOfInput && position == limit)) {
+			if (skipLineFeed && position < limit) {
+				if (bytes[position] == '\n')
+					position++;
+				skipLineFeed = false;
+			}
+			int end = position;
+			while (end < limit && bytes[end] != '\n' && bytes[end] != '\r')
+				end++;
+			if (end < limit || (endOfInput && position < limit)) {
+				lineStart = position;
+				lineEnd = end;
+				position = Math.min(end + 1, limit);
+				skipLineFeed = end < limit && bytes[end] == '\r';
+				lineNumber++;
+				found = true;
+			}
+			else if (! endOfInput)
+				fill();
+		}
+		return found;
+	}
+
+	/**
+	 * Moves the bytes of the current line to the beginning of the buffer,
+	 * growing it if the line takes all of it, and reads from the channel after them
+	 */
+	private void fill() throws IOException {
+		if (position == 0 && limit == bytes.length)
+			allocate(bytes.length * 2);
+		else if (position > 0) {
+			System.arraycopy(bytes, position, bytes, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+		int read = channel.read(ByteBuffer.wrap(bytes, limit, bytes.length - limit));
+		if (read < 0)
+			endOfInput = true;
+		else
+			limit += read;
+	}
+
+	/**
+	 * @return <tt>true</tt> if the line is an event
+	 */
+	private boolean parseLine() throws TimecodeException {
+		boolean event = false;
+		int fields = splitFields();
+		if (fields > 0) {
+			int first = bytes[fieldStarts[0]];
+			if (first >= '0' && first <= '9') {
+				parseEvent(fields);
+				event = true;
+			}
+			else if (startsWith(FCM))
+				parseFrameCountMode();
+			else if (startsWith(TITLE))
+				title = new String(bytes, lineStart + TITLE.length, lineEnd - lineStart - TITLE.length,
+								   StandardCharsets.US_ASCII).trim();
+		}
+		return event;
+	}
+
+	/**
+	 * Finds the fields of the line separated by spaces or tabs, up to one more than
+	 * the fields of an event, so that lines with too many of them are detected
+	 *
+	 * @return The number of fields
+	 */
+	private int splitFields() {
+		int fields = 0;
+		int i = lineStart;
+		while (i < lineEnd && fields <= MAX_FIELDS) {
+			while (i < lineEnd && (bytes[i] == ' ' || bytes[i] == '\t'))
+				i++;
+			if (i < lineEnd) {
+				fieldStarts[fields] = i;
+				while (i < lineEnd && bytes[i] != ' ' && bytes[i] != '\t')
+					i++;
+				fieldEnds[fields++] = i;
+			}
+		}
+		return fields;
+	}
+
+	private boolean startsWith(byte[] prefix) {
+		return regionMatches(lineStart, lineEnd, prefix);
+	}
+
+	private boolean regionMatches(int start, int end, byte[] prefix) {
+		boolean matches = end - start >= prefix.length;
+		for (int i = 0; matches && i < prefix.length; i++)
+			matches = bytes[start + i] == prefix[i];
+		return matches;
+	}
+
+	private void parseFrameCountMode() throws TimecodeException {
+		int modeStart = lineStart + FCM.length;
+		while (modeStart < lineEnd && bytes[modeStart] == ' ')
+			modeStart++;
+		if (regionMatches(modeStart, lineEnd, DROP_FRAME))
+			frameRateType = dropFrameRate;
+		else if (regionMatches(modeStart, lineEnd, NON_DROP_FRAME) ||
+				regionMatches(modeStart, lineEnd, NON_DROP_FRAME_SPACED))
+			frameRateType = nonDropFrameRate;
+		else
+			throw TimecodeException.stackless(INVALID_EDL_LINE);
+		if (frameRateType == null)
+			throw TimecodeException.stackless(INVALID_FRAME_RATE);
+	}
+
+	/**
+	 * Parses an event line, with a transition duration if it has 9 fields
+	 */
+	private void parseEvent(int fields) throws TimecodeException {
+		if (fields < MAX_FIELDS - 1 || fields > MAX_FIELDS)
+			throw TimecodeException.stackless(INVALID_EDL_LINE);
+		eventNumber = number(0);
+		reel.view(fieldStarts[1], fieldEnds[1] - fieldStarts[1]);
+		channels.view(fieldStarts[2], fieldEnds[2] - fieldStarts[2]);
+		transition.view(fieldStarts[3], fieldEnds[3] - fieldStarts[3]);
+		transitionDuration = fields == MAX_FIELDS ? number(4) : - 1;
+		int timecodes = fields - 4;
+		sourceIn = frameCount(timecodes);
+		sourceOut = frameCount(timecodes + 1);
+		recordIn = frameCount(timecodes + 2);
+		recordOut = frameCount(timecodes + 3);
+	}
+
+	private int number(int field) throws TimecodeException {
+		int start = fieldStarts[field];
+		int end = fieldEnds[field];
+		if (end - start > 9)
+			throw TimecodeException.stackless(INVALID_EDL_LINE);
+		int number = 0;
+		for (int i = start; i < end; i++) {
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9)
+				throw TimecodeException.stackless(INVALID_EDL_LINE);
+			number = number * 10 + digit;
+		}
+		return number;
+	}
+
+	/**
+	 * Parses a timecode as hh:mm:ss:ff, with colons or semicolons as separators
+	 */
+	private int frameCount(int field) throws TimecodeException {
+		int start = fieldStarts[field];
+		if (fieldEnds[field] - start != frameRateType.getStringLength() ||
+				! isSeparator(bytes[start + 2]) || ! isSeparator(bytes[start + 5]) || ! isSeparator(bytes[start + 8]))
+			throw TimecodeException.stackless(INVALID_EDL_LINE);
+		int hours = twoDigits(start);
+		int minutes = twoDigits(start + 3);
+		int seconds = twoDigits(start + 6);
+		int frames = frameRateType.getFrameDigits() == 3 ? threeDigits(start + 9) : twoDigits(start + 9);
+		long packedTimecode = PackedTimecode.tryPack(frameRateType, hours, minutes, seconds, frames);
+		if (PackedTimecode.isError(packedTimecode))
+			throw TimecodeException.stackless(PackedTimecode.errorCase(packedTimecode));
+		return PackedTimecode.frameCount(packedTimecode);
+	}
+
+	private static boolean isSeparator(byte separator) {
+		return separator == ':' || separator == ';';
+	}
+
+	/**
+	 * @return The value of the two digits, or a negative number if any of them is not a digit
+	 */
+	private int twoDigits(int offset) {
+		int tensValue = bytes[offset] - '0';
+		int unitsValue = bytes[offset + 1] - '0';
+		return (tensValue | unitsValue | (9 - tensValue) | (9 - unitsValue)) < 0 ? - 1 : tensValue * 10 + unitsValue;
+	}
+
+	/**
+	 * @return The value of the three digits, or a negative number if any of them is not a digit
+	 */
+	private int threeDigits(int offset) {
+		int hundredsValue = bytes[offset] - '0';
+		int tensAndUnitsValue = twoDigits(offset + 1);
+		return (hundredsValue | tensAndUnitsValue | (9 - hundredsValue)) < 0 ? - 1
+																			  : hundredsValue * 100 + tensAndUnitsValue;
+	}
+
+	/**
+	 * @return The title of the EDL, or <tt>null</tt> if there was no <tt>TITLE</tt> line before the current event
+	 */
+	public String getTitle() {
+		return title;
+	}
+
+	/**
+	 * @return The frame rate of the timecodes of the current event
+	 */
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	/**
+	 * @return The number of the line of the current event, or of the line of the
+	 *         last exception, counting from 1
+	 */
+	public int getLineNumber() {
+		return lineNumber;
+	}
+
+	public int getEventNumber() {
+		return eventNumber;
+	}
+
+	/**
+	 * @return A view of the reel of the current event, valid until the next event is read
+	 */
+	public CharSequence getReel() {
+		return reel;
+	}
+
+	/**
+	 * @return A view of the channels of the current event, like <tt>V</tt> or <tt>AA/V</tt>,
+	 *         valid until the next event is read
+	 */
+	public CharSequence getChannels() {
+		return channels;
+	}
+
+	/**
+	 * @return A view of the transition of the current event, like <tt>C</tt>, <tt>D</tt> or
+	 *         <tt>W001</tt>, valid until the next event is read
+	 */
+	public CharSequence getTransition() {
+		return transition;
+	}
+
+	/**
+	 * @return The duration in frames of the transition of the current event, or -1 if it has none
+	 */
+	public int getTransitionDuration() {
+		return transitionDuration;
+	}
+
+	public int getSourceIn() {
+		return sourceIn;
+	}
+
+	public int getSourceOut() {
+		return sourceOut;
+	}
+
+	public int getRecordIn() {
+		return recordIn;
+	}
+
+	public int getRecordOut() {
+		return recordOut;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Streaming writer of EDLs in CMX 3600 format, which can be read with {@link EdlReader}.
+ *
+ * <p>The events are given with the frame counts of their timecodes, which are formatted
+ * straight into a buffer of bytes that is written to the channel when it's full,
+ * without creating a <tt>String</tt> nor any other object per event.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class EdlWriter implements Closeable, Flushable {
+
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+	private static final int REEL_WIDTH = 8;
+	private static final int CHANNELS_WIDTH = 5;
+	private static final int TRANSITION_WIDTH = 4;
+	private static final int DURATION_WIDTH = 3;
+
+	private final WritableByteChannel channel;
+	private final FrameRateType frameRateType;
+	private byte[] bytes;
+	private int position;
+
+	/**
+	 * Creates a writer of an EDL to the given channel
+	 *
+	 * @param channel       The channel of the EDL
+	 * @param frameRateType The frame rate of the timecodes of the events
+	 */
+	public EdlWriter(WritableByteChannel channel, FrameRateType frameRateType) {
+		this(channel, frameRateType, EdlReader.DEFAULT_BUFFER_SIZE);
+	}
+
+	EdlWriter(WritableByteChannel channel, FrameRateType frameRateType, int bufferSize) {
+		checkArgument(bufferSize > 0, "Invalid buffer size %s", bufferSize);
+		this.channel = channel;
+		this.frameRateType = frameRateType;
+		bytes = new byte[bufferSize];
+	}
+
+	/**
+	 * Writes the <tt>TITLE</tt> line and the <tt>FCM</tt> line of the frame rate
+	 *
+	 * @param title The title of the EDL
+	 *
+	 * @throws IOException If the channel can't be written
+	 */
+	public void writeHeader(CharSequence title) throws IOException {
+		reserve(title.length() + 32);
+		write("TITLE: ");
+		write(title);
+		newLine();
+		write(frameRateType.isDropFrame() ? "FCM: DROP FRAME" : "FCM: NON-DROP FRAME");
+		newLine();
+		newLine();
+	}
+
+	/**
+	 * Writes an event line, <tt>event reel channels transition [duration] sourceIn sourceOut recordIn recordOut</tt>,
+	 * padding the reel, channels, transition and duration to the columns of CMX 3600
+	 *
+	 * @param eventNumber        The number of the event, written with 3 digits at least
+	 * @param reel               The reel of the source
+	 * @param channels           The channels, like <tt>V</tt> or <tt>AA/V</tt>
+	 * @param transition         The transition, like <tt>C</tt>, <tt>D</tt> or <tt>W001</tt>
+	 * @param transitionDuration The duration in frames of the transition, or -1 if it has none
+	 * @param sourceIn           The frame count of the source in
+	 * @param sourceOut          The frame count of the source out
+	 * @param recordIn           The frame count of the record in
+	 * @param recordOut          The frame count of the record out
+	 *
+	 * @throws IOException              If the channel can't be written
+	 * @throws IllegalArgumentException If the event number or the duration are not valid, or a
+	 *                                  frame count is out of the limits of the frame rate
+	 */
+	public void writeEvent(int eventNumber, CharSequence reel, CharSequence channels, CharSequence transition,
+			int transitionDuration, int sourceIn, int sourceOut, int recordIn, int recordOut) throws IOException {
+		checkArgument(eventNumber >= 0, "Invalid event number %s", eventNumber);
+		checkArgument(transitionDuration >= - 1 && transitionDuration < 1000, "Invalid transition duration %s",
+					  transitionDuration);
+		long packedSourceIn = PackedTimecode.pack(frameRateType, sourceIn);
+		long packedSourceOut = PackedTimecode.pack(frameRateType, sourceOut);
+		long packedRecordIn = PackedTimecode.pack(frameRateType, recordIn);
+		long packedRecordOut = PackedTimecode.pack(frameRateType, recordOut);
+
+		reserve(reel.length() + channels.length() + transition.length() + 48 + 4 * PackedTimecode.STRING_LENGTH);
+		number(eventNumber, 3);
+		write("  ");
+		padded(reel, REEL_WIDTH);
+		padded(channels, CHANNELS_WIDTH);
+		padded(transition, TRANSITION_WIDTH);
+		if (transitionDuration < 0)
+			write("    ");
+		else {
+			number(transitionDuration, DURATION_WIDTH);
+			write(" ");
+		}
+		position = PackedTimecode.format(packedSourceIn, bytes, position);
+		write(" ");
+		position = PackedTimecode.format(packedSourceOut, bytes, position);
+		write(" ");
+		position = PackedTimecode.format(packedRecordIn, bytes, position);
+		write(" ");
+		position = PackedTimecode.format(packedRecordOut, bytes, position);
+		newLine();
+	}
+
+	/**
+	 * Writes a comment line, like <tt>* FROM CLIP NAME: CLIP 1</tt>
+	 *
+	 * @param comment The comment, without the leading asterisk
+	 *
+	 * @throws IOException If the channel can't be written
+	 */
+	public void writeComment(CharSequence comment) throws IOException {
+		reserve(comment.length() + 2 + LINE_SEPARATOR.length);
+		write("* ");
+		write(comment);
+		newLine();
+	}
+
+	/**
+	 * Makes room in the buffer for the given number of bytes, writing it to the channel or growing it
+	 */
+	private void reserve(int length) throws IOException {
+		if (position + length > bytes.length) {
+			flushBuffer();
+			if (length > bytes.length)
+				bytes = new byte[Math.max(length, bytes.length * 2)];
+		}
+	}
+
+	private void write(CharSequence chars) {
+		for (int i = 0; i < chars.length(); i++)
+			bytes[position++] = (byte) chars.charAt(i);
+	}
+
+	/**
+	 * Writes the characters followed by spaces up to the given width and a separating space
+	 */
+	private void padded(CharSequence chars, int width) {
+		write(chars);
+		for (int i = chars.length(); i < width; i++)
+			bytes[position++] = ' ';
+		bytes[position++] = ' ';
+	}
+
+	/**
+	 * Writes the number with leading zeros up to the given number of digits
+	 */
+	private void number(int number, int minDigits) {
+		int digits = 1;
+		for (int n = number / 10; n > 0; n /= 10)
+			digits++;
+		digits = Math.max(digits, minDigits);
+		for (int i = position + digits - 1; i >= position; i--, number /= 10)
+			bytes[i] = (byte) ('0' + number % 10);
+		position += digits;
+	}
+
+	private void newLine() {
+		System.arraycopy(LINE_SEPARATOR, 0, bytes, position, LINE_SEPARATOR.length);
+		position += LINE_SEPARATOR.length;
+	}
+
+	private void flushBuffer() throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, position);
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		position = 0;
+	}
+
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flushBuffer();
+		}
+		finally {
+			channel.close();
+		}
+	}
+}
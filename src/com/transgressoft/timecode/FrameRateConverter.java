@@ -0,0 +1,344 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.math.*;
+import java.util.stream.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+
+/**
+ * Converts timecodes of a frame rate to another. The frame count of the result is given by one of
+ * the mappings between the frame rates:
+ *
+ * <ul>
+ *     <li>{@link #speedChange(FrameRateType, FrameRateType)}: every frame is kept, so the material
+ *     plays faster or slower, like the 24 to 25 fps speed up. Between frame rates of the same rate,
+ *     like 29.97 fps drop frame and non drop frame, it relabels the frames.</li>
+ *     <li>{@link #pulldown(FrameRateType, FrameRateType, int)}: 2:3 pulldown, that spreads every
+ *     4 frames of 24 fps over 5 frames of 30 fps, and its removal.</li>
+ *     <li>{@link #realTime(FrameRateType, FrameRateType, RoundingMode)}: the result is the frame
+ *     at the same time, rounded to a frame of the target frame rate.</li>
+ * </ul>
+ *
+ * <p>The three of them are computed as <tt>(frameCount + phase) * numerator / denominator</tt>,
+ * with the ratio of the rates reduced to its lowest terms, and rounded adding a bias to the
+ * dividend, all of it in <tt>long</tt> integer arithmetic, so the conversions are exact.</p>
+ *
+ * <p>The instances are immutable and can be shared between threads.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class FrameRateConverter {
+
+	private final FrameRateType sourceFrameRate;
+	private final FrameRateType targetFrameRate;
+	private final long numerator;
+	private final long denominator;
+	private final int phase;
+
+	/**
+	 * Added to the dividend: the phase and the bias of the rounding
+	 */
+	private final long dividendOffset;
+
+	/**
+	 * Subtracted from the quotient, so that the frame count zero is converted to zero
+	 */
+	private final long quotientOffset;
+
+	/**
+	 * Remainder of the ties that are rounded to the even quotient, or -1 if there are none
+	 */
+	private final long tieRemainder;
+
+	private FrameRateConverter(FrameRateType sourceFrameRate, FrameRateType targetFrameRate, long numerator,
+			long denominator, int phase, long bias, boolean halfEven) {
+		checkArgument(numerator <= Integer.MAX_VALUE && denominator <= Integer.MAX_VALUE,
+					  "Frame rates %s and %s can't be converted exactly", sourceFrameRate, targetFrameRate);
+		this.sourceFrameRate = sourceFrameRate;
+		this.targetFrameRate = targetFrameRate;
+		this.numerator = numerator;
+		this.denominator = denominator;
+		this.phase = phase;
+		dividendOffset = phase * numerator + bias;
+		quotientOffset = dividendOffset / denominator;
+		tieRemainder = halfEven && denominator % 2 == 0 ? denominator - 1 : - 1;
+	}
+
+	/**
+	 * Creates a converter that keeps every frame, so the frame count is the same
+	 * and the duration changes with the frame rate
+	 *
+	 * @param sourceFrameRate The frame rate of the timecodes to convert
+	 * @param targetFrameRate The frame rate of the results
+	 *
+	 * @return The converter
+	 */
+	public static FrameRateConverter speedChange(FrameRateType sourceFrameRate, FrameRateType targetFrameRate) {
+		return new FrameRateConverter(sourceFrameRate, targetFrameRate, 1, 1, 0, 0, false);
+	}
+
+	/**
+	 * Creates a converter that adds or removes a 2:3 pulldown, whose 5 frames cadence is AA, BB, BC,
+	 * CD and DD. Adding it, every source frame is converted to the first target frame whose first field
+	 * is from that frame, so the frames A, B, C and D are the frames 0, 1, 3 and 4 of the cadence.
+	 * Removing it, every target frame is converted to the source frame of its first field, so both are
+	 * inverse. The nominal rates must be 4:5, like 24 and 30 fps, or 23.976 and 29.97 fps, or the
+	 * reverse; the 1000/1001 factor of NTSC rates is not applied.
+	 *
+	 * @param sourceFrameRate The frame rate of the timecodes to convert
+	 * @param targetFrameRate The frame rate of the results
+	 * @param cadencePhase    The position in the cadence of the frame zero: from 0 to 3, the letter
+	 *                        of the source frame adding the pulldown, or from 0 to 4 removing it
+	 *
+	 * @return The converter
+	 *
+	 * @throws IllegalArgumentException If the frame rates are not 4:5 or 5:4, or the phase is out of the cadence
+	 */
+	public static FrameRateConverter pulldown(FrameRateType sourceFrameRate, FrameRateType targetFrameRate,
+			int cadencePhase) {
+		int sourceFrameMax = sourceFrameRate.getFrameMax();
+		int targetFrameMax = targetFrameRate.getFrameMax();
+		FrameRateConverter frameRateConverter;
+		if (5 * sourceFrameMax == 4 * targetFrameMax) {
+			checkArgument(cadencePhase >= 0 && cadencePhase < 4, "Invalid cadence phase %s", cadencePhase);
+			// the source frame n starts on the field 5n / 2, the first field of the target frame (5n + 2) / 4
+			frameRateConverter = new FrameRateConverter(sourceFrameRate, targetFrameRate, 5, 4, cadencePhase, 2,
+														false);
+		}
+		else {
+			checkArgument(4 * sourceFrameMax == 5 * targetFrameMax, "2:3 pulldown can't convert %s to %s",
+						  sourceFrameRate, targetFrameRate);
+			checkArgument(cadencePhase >= 0 && cadencePhase < 5, "Invalid cadence phase %s", cadencePhase);
+			// the first field of the target frame k is the field 2k, that belongs to the frame (4k + 1) / 5
+			frameRateConverter = new FrameRateConverter(sourceFrameRate, targetFrameRate, 4, 5, cadencePhase, 1,
+														false);
+		}
+		return frameRateConverter;
+	}
+
+	/**
+	 * Creates a converter to the frame of the target frame rate at the same time, from the exact rates
+	 * of the frame rates, like 30000/1001 for 29.97 fps drop frame
+	 *
+	 * @param sourceFrameRate The frame rate of the timecodes to convert
+	 * @param targetFrameRate The frame rate of the results
+	 * @param roundingMode    The rounding of the times between two frames of the target frame rate
+	 *
+	 * @return The converter
+	 *
+	 * @throws IllegalArgumentException If the rounding mode is {@link RoundingMode#UNNECESSARY}
+	 */
+	public static FrameRateConverter realTime(FrameRateType sourceFrameRate, FrameRateType targetFrameRate,
+			RoundingMode roundingMode) {
+		long numerator = (long) targetFrameRate.getRateNumerator() * sourceFrameRate.getRateDenominator();
+		long denominator = (long) targetFrameRate.getRateDenominator() * sourceFrameRate.getRateNumerator();
+		long gcd = BigInteger.valueOf(numerator).gcd(BigInteger.valueOf(denominator)).longValue();
+		numerator /= gcd;
+		denominator /= gcd;
+
+		long bias;
+		switch (roundingMode) {
+			case FLOOR:
+			case DOWN:
+				bias = 0;
+				break;
+			case CEILING:
+			case UP:
+				bias = denominator - 1;
+				break;
+			case HALF_UP:
+				bias = denominator / 2;
+				break;
+			case HALF_DOWN:
+			case HALF_EVEN:
+				bias = (denominator - 1) / 2;
+				break;
+			default:
+				throw new IllegalArgumentException("Rounding mode " + roundingMode + " is not supported");
+		}
+		return new FrameRateConverter(sourceFrameRate, targetFrameRate, numerator, denominator, 0, bias,
+									  roundingMode == RoundingMode.HALF_EVEN);
+	}
+
+	/**
+	 * @return The target frame count of the given one, which can be over the limit of the target frame rate
+	 */
+	private long map(int frameCount) {
+		long dividend = frameCount * numerator + dividendOffset;
+		long quotient = dividend / denominator;
+		if (dividend - quotient * denominator == tieRemainder && (quotient & 1) == 1)
+			quotient++;
+		return quotient - quotientOffset;
+	}
+
+	/**
+	 * Converts a frame count of the source frame rate
+	 *
+	 * @param frameCount The frame count
+	 *
+	 * @return The frame count of the target frame rate
+	 *
+	 * @throws IllegalArgumentException If the frame count is out of the range of the source frame rate
+	 * @throws TimecodeException        If the result is greater than the limit of the target frame rate
+	 */
+	public int convert(int frameCount) throws TimecodeException {
+		TimecodeBase.checkFrameCount(sourceFrameRate, frameCount);
+		long result = map(frameCount);
+		if (result >= targetFrameRate.getFrameCountLimit())
+			throw TimecodeException.stackless(RESULT_GREATER_LIMIT);
+		return (int) result;
+	}
+
+	/**
+	 * Converts a timecode of the source frame rate
+	 *
+	 * @param timecode The timecode
+	 *
+	 * @return The timecode of the target frame rate
+	 *
+	 * @throws TimecodeException If the timecode is not of the source frame rate, it's under zero,
+	 *                           or the result is greater than the limit of the target frame rate
+	 */
+	public Timecode convert(Timecode timecode) throws TimecodeException {
+		if (timecode.getFrameRateType() != sourceFrameRate)
+			throw TimecodeException.stackless(INVALID_CONVERSION);
+		if (timecode.getFrameCount() < 0)
+			throw TimecodeException.stackless(FRAME_COUNT_LESS_0);
+		return TimecodeFactory.createTimeCode(targetFrameRate, convert(timecode.getFrameCount()));
+	}
+
+	/**
+	 * Converts a packed timecode of the source frame rate
+	 *
+	 * @param packedTimecode The packed timecode
+	 *
+	 * @return The packed timecode of the target frame rate
+	 *
+	 * @throws TimecodeException If the timecode is not of the source frame rate
+	 *                           or the result is greater than the limit of the target frame rate
+	 * @see PackedTimecode
+	 */
+	public long convert(long packedTimecode) throws TimecodeException {
+		return PackedTimecode.orThrow(tryConvert(packedTimecode));
+	}
+
+	/**
+	 * Converts a packed timecode of the source frame rate, without throwing an exception
+	 *
+	 * @param packedTimecode The packed timecode
+	 *
+	 * @return The packed timecode of the target frame rate, or a negative number if the timecode is
+	 *         not of the source frame rate or the result is greater than the limit of the target frame rate.
+	 *         The errors of the <tt>try</tt> methods of {@link PackedTimecode} are returned as they are.
+	 */
+	public long tryConvert(long packedTimecode) {
+		long result;
+		if (PackedTimecode.isError(packedTimecode))
+			result = packedTimecode;
+		else if (PackedTimecode.frameRateType(packedTimecode) != sourceFrameRate)
+			result = PackedTimecode.error(INVALID_CONVERSION);
+		else {
+			long frameCount = map(PackedTimecode.frameCount(packedTimecode));
+			if (frameCount >= targetFrameRate.getFrameCountLimit())
+				result = PackedTimecode.error(RESULT_GREATER_LIMIT);
+			else
+				result = PackedTimecode.packFrameCount(targetFrameRate, (int) frameCount);
+		}
+		return result;
+	}
+
+	/**
+	 * Converts a stream of packed timecodes of the source frame rate, without throwing an exception
+	 *
+	 * @param packedTimecodes The packed timecodes
+	 *
+	 * @return The stream of the results of {@link #tryConvert(long)}
+	 */
+	public LongStream tryConvert(LongStream packedTimecodes) {
+		return packedTimecodes.map(this::tryConvert);
+	}
+
+	/**
+	 * Converts all the given frame counts of the source frame rate
+	 *
+	 * @param frameCounts The frame counts to convert
+	 * @param results     The array where the frame counts of the target frame rate are written, from its beginning
+	 *
+	 * @throws IllegalArgumentException If a frame count is out of the range of the source frame rate
+	 * @throws TimecodeException        If a result is greater than the limit of the target frame rate
+	 */
+	public void convert(int[] frameCounts, int[] results) throws TimecodeException {
+		convert(frameCounts, 0, frameCounts.length, results, 0);
+	}
+
+	/**
+	 * Converts <tt>length</tt> frame counts of the source frame rate, starting at <tt>from</tt>
+	 *
+	 * @param frameCounts The frame counts to convert
+	 * @param from        The index of the first frame count to convert
+	 * @param length      The number of frame counts to convert
+	 * @param results     The array where the frame counts of the target frame rate are written
+	 * @param offset      The index of the array where the first result is written
+	 *
+	 * @throws IllegalArgumentException If a frame count is out of the range of the source frame rate
+	 * @throws TimecodeException        If a result is greater than the limit of the target frame rate
+	 * @see #convert(int[], int[])
+	 */
+	public void convert(int[] frameCounts, int from, int length, int[] results, int offset) throws TimecodeException {
+		int targetLimit = targetFrameRate.getFrameCountLimit();
+		for (int i = 0; i < length; i++) {
+			int frameCount = frameCounts[from + i];
+			TimecodeBase.checkFrameCount(sourceFrameRate, frameCount);
+			long result = map(frameCount);
+			if (result >= targetLimit)
+				throw TimecodeException.stackless(RESULT_GREATER_LIMIT);
+			results[offset + i] = (int) result;
+		}
+	}
+
+	/**
+	 * Returns the position of a source frame in the cycle after which the mapping repeats, every
+	 * <tt>denominator</tt> frames of the reduced ratio of the frame rates. Adding a 2:3 pulldown,
+	 * it is 0, 1, 2 or 3 for the frames A, B, C and D, and removing it, 0 to 4 for the frames
+	 * AA, BB, BC, CD and DD. It is always zero on a speed change.
+	 *
+	 * @param frameCount The frame count of the source frame
+	 *
+	 * @return The phase of the frame
+	 */
+	public int cadencePhase(int frameCount) {
+		return (int) ((frameCount + phase) % denominator);
+	}
+
+	public FrameRateType getSourceFrameRate() {
+		return sourceFrameRate;
+	}
+
+	public FrameRateType getTargetFrameRate() {
+		return targetFrameRate;
+	}
+
+	@Override
+	public String toString() {
+		return "FrameRateConverter[" + sourceFrameRate + " -> " + targetFrameRate + ", " + numerator + "/" +
+				denominator + "]";
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Provider of custom frame rates, found with the {@link java.util.ServiceLoader} when
+ * {@link FrameRateType} is initialized. Implementations are declared in a
+ * <tt>META-INF/services/com.transgressoft.timecode.FrameRateProvider</tt> file
+ * and must have a public constructor without parameters.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public interface FrameRateProvider {
+
+	/**
+	 * Registers the frame rates of the provider with
+	 * {@link FrameRateType#register(String, int, int, int, String...)}
+	 */
+	void registerFrameRates();
+}
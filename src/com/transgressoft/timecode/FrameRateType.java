@@ -16,61 +16,433 @@
 
 package com.transgressoft.timecode;
 
+import java.util.*;
+
+import static com.google.common.base.Preconditions.*;
 import static com.transgressoft.timecode.TimecodeException.ErrorCase.INVALID_FRAME_RATE;
 
 /**
- * Enumeration of frame rate types with operations to parse the frame
- * rate given a string, and check if his value is valid.
+ * Frame rates of the timecodes, with operations to parse the frame rate
+ * given a string, and check if his value is valid.
+ *
+ * <p>A frame rate is described by its exact rate, as a fraction of frames per second, and
+ * the number of frame labels dropped every minute but the tenth ones, which is zero on non
+ * drop frame rates. The nominal number of frames per second of the labels, the frame count
+ * limit and the conversions between frame counts and labels are derived from them, so a
+ * single implementation of {@link Timecode} serves any frame rate. Frame rates of more than
+ * 99 frames per second are written with three digit frames, hh:mm:ss:fff.</p>
+ *
+ * <p>Besides the common SMPTE frame rates declared as constants, custom frame rates are
+ * registered with {@link #register(String, int, int, int, String...)}, either directly or by a
+ * {@link FrameRateProvider} found by the {@link ServiceLoader} when this class is initialized.
+ * Frame rates are compared by identity, like the constants of an <tt>enum</tt>.</p>
  *
  * @author Octavio Calleya
  * @version 1.0
  */
-public enum FrameRateType {
-	FPS24("24fps"),
-	FPS25("25fps"),
-	FPS30("30fps"),
-	DF30("30DF");
+public final class FrameRateType {
+
+	/**
+	 * Maximum number of frame rates, since packed timecodes store the ordinal in 7 bits
+	 */
+	private static final int MAX_FRAME_RATES = 128;
+
+	/**
+	 * Maximum number of frames per second, since packed timecodes store the frames in 7 bits
+	 */
+	private static final int MAX_FRAME_MAX = 127;
+
+	private static final Object REGISTRY_LOCK = new Object();
+
+	/**
+	 * Registered frame rates by their ordinal. The arrays are replaced, never modified,
+	 * when a frame rate is registered, so they are read without locking.
+	 */
+	private static volatile FrameRateType[] frameRateTypes = new FrameRateType[0];
+
+	/**
+	 * Lower case names and aliases of the registered frame rates, by their length
+	 */
+	private static volatile Name[][] namesByLength = new Name[0][];
+
+	/**
+	 * Ordinals of the frame rates declared as constants, to switch on them like on an <tt>enum</tt>
+	 */
+	static final int FPS24_ORDINAL = 0;
+	static final int FPS25_ORDINAL = 1;
+	static final int FPS30_ORDINAL = 2;
+	static final int DF30_ORDINAL = 3;
+	static final int FPS23_976_ORDINAL = 4;
+	static final int FPS29_97_ORDINAL = 5;
+	static final int FPS48_ORDINAL = 6;
+	static final int FPS50_ORDINAL = 7;
+	static final int DF60_ORDINAL = 8;
+	static final int FPS60_ORDINAL = 9;
+	static final int FPS120_ORDINAL = 10;
+
+	public static final FrameRateType FPS24 = builtIn(FPS24_ORDINAL, "24fps", 24, 1, 0, 2073600, "24");
+	public static final FrameRateType FPS25 = builtIn(FPS25_ORDINAL, "25fps", 25, 1, 0, 2160000, "25", "PAL");
+	public static final FrameRateType FPS30 = builtIn(FPS30_ORDINAL, "30fps", 30, 1, 0, 2592000, "30");
+	/**
+	 * Drop frame 29.97 fps. Unlike every other frame rate, its frame count limit leaves out the last
+	 * frame of the day, 23:59:59;29, which is only admitted by its units. It is the limit that
+	 * {@link com.transgressoft.timecode.df30.Df30Timecode} has always had, so it's kept for compatibility.
+	 */
+	public static final FrameRateType DF30 = builtIn(DF30_ORDINAL, "30DF", 30000, 1001, 2, 2589407, "29.97DF");
+	public static final FrameRateType FPS23_976 = builtIn(FPS23_976_ORDINAL, "23.976fps", 24000, 1001, 0, 2073600,
+														  "23.976", "23.98");
+	public static final FrameRateType FPS29_97 = builtIn(FPS29_97_ORDINAL, "29.97fps", 30000, 1001, 0, 2592000,
+														 "29.97", "29.97NDF");
+	public static final FrameRateType FPS48 = builtIn(FPS48_ORDINAL, "48fps", 48, 1, 0, 4147200, "48");
+	public static final FrameRateType FPS50 = builtIn(FPS50_ORDINAL, "50fps", 50, 1, 0, 4320000, "50");
+	/**
+	 * Drop frame 59.94 fps. Its frame count limit covers the whole day, like the ones of the registered rates
+	 */
+	public static final FrameRateType DF60 = builtIn(DF60_ORDINAL, "60DF", 60000, 1001, 4, 5178816, "59.94DF");
+	public static final FrameRateType FPS60 = builtIn(FPS60_ORDINAL, "60fps", 60, 1, 0, 5184000, "60");
+	public static final FrameRateType FPS120 = builtIn(FPS120_ORDINAL, "120fps", 120, 1, 0, 10368000, "120");
 
-	private String shortName;
+	static {
+		for (FrameRateProvider frameRateProvider : ServiceLoader.load(FrameRateProvider.class))
+			frameRateProvider.registerFrameRates();
+	}
+
+	private final String shortName;
+	private final int ordinal;
+	private final int rateNumerator;
+	private final int rateDenominator;
+	private final int frameMax;
+	private final int dropFrames;
+	private final int framesPerMinute;
+	private final int framesPerTenMinutes;
+	private final int frameCountLimit;
+	private final TimecodeUnits.Divisor frameMaxDivisor;
+	private final TimecodeUnits.Divisor framesPerMinuteDivisor;
+	private final TimecodeUnits.Divisor framesPerTenMinutesDivisor;
 
-	FrameRateType(String shortName) {
+	private FrameRateType(String shortName, int ordinal, int rateNumerator, int rateDenominator,
+			int dropFrames, int frameCountLimit) {
 		this.shortName = shortName;
+		this.ordinal = ordinal;
+		this.rateNumerator = rateNumerator;
+		this.rateDenominator = rateDenominator;
+		this.frameMax = nominalFrameMax(rateNumerator, rateDenominator);
+		this.dropFrames = dropFrames;
+		this.framesPerMinute = 60 * frameMax - dropFrames;
+		this.framesPerTenMinutes = 600 * frameMax - 9 * dropFrames;
+		this.frameCountLimit = frameCountLimit;
+		this.frameMaxDivisor = new TimecodeUnits.Divisor(frameMax);
+		this.framesPerMinuteDivisor = new TimecodeUnits.Divisor(framesPerMinute);
+		this.framesPerTenMinutesDivisor = new TimecodeUnits.Divisor(framesPerTenMinutes);
 	}
 
-	public static FrameRateType fromString(String string) throws TimecodeException {
-		FrameRateType frameRateType = null;
+	private static int nominalFrameMax(int rateNumerator, int rateDenominator) {
+		return (rateNumerator + rateDenominator - 1) / rateDenominator;
+	}
+
+	private static FrameRateType builtIn(int ordinal, String shortName, int rateNumerator, int rateDenominator,
+			int dropFrames, int frameCountLimit, String... aliases) {
+		synchronized (REGISTRY_LOCK) {
+			checkState(frameRateTypes.length == ordinal, "Frame rate %s declared out of order", shortName);
+			return add(shortName, aliases, rateNumerator, rateDenominator, dropFrames, frameCountLimit);
+		}
+	}
+
+	/**
+	 * Registers a custom frame rate, which can be used afterwards like the ones declared as constants
+	 *
+	 * @param shortName       The name of the frame rate, returned by {@link #toString()}
+	 * @param rateNumerator   The numerator of the exact number of frames per second, like 24000 for 23.976 fps
+	 * @param rateDenominator The denominator of the exact number of frames per second, like 1001 for 23.976 fps
+	 * @param dropFrames      The number of frame labels dropped every minute but the tenth ones,
+	 *                        zero on non drop frame rates
+	 * @param aliases         Other names accepted by {@link #fromString(String)}
+	 *
+	 * @return The registered frame rate
+	 *
+	 * @throws IllegalArgumentException If the values are not valid, the name or an alias are already registered,
+	 *                                  or there are 128 frame rates registered
+	 */
+	public static FrameRateType register(String shortName, int rateNumerator, int rateDenominator, int dropFrames,
+			String... aliases) {
+		checkArgument(rateNumerator > 0 && rateDenominator > 0, "Invalid rate %s/%s", rateNumerator, rateDenominator);
+		int frameMax = nominalFrameMax(rateNumerator, rateDenominator);
+		checkArgument(frameMax <= MAX_FRAME_MAX, "Frame rates of up to %s frames per second are supported",
+					  MAX_FRAME_MAX);
+		checkArgument(dropFrames >= 0 && dropFrames < frameMax, "Invalid number of dropped frames %s", dropFrames);
+		int frameCountLimit = 24 * 6 * (600 * frameMax - 9 * dropFrames);
+
+		synchronized (REGISTRY_LOCK) {
+			return add(shortName, aliases, rateNumerator, rateDenominator, dropFrames, frameCountLimit);
+		}
+	}
 
-		if ("24fps".equalsIgnoreCase(string))
-			frameRateType = FPS24;
-		else if ("25fps".equalsIgnoreCase(string))
-			frameRateType = FPS25;
-		else if ("30fps".equalsIgnoreCase(string))
-			frameRateType = FPS30;
-		else if ("30DF".endsWith(string))
-			frameRateType = DF30;
+	private static FrameRateType add(String shortName, String[] aliases, int rateNumerator, int rateDenominator,
+			int dropFrames, int frameCountLimit) {
+		FrameRateType[] registered = frameRateTypes;
+		checkArgument(registered.length < MAX_FRAME_RATES, "Only %s frame rates can be registered", MAX_FRAME_RATES);
+		FrameRateType frameRateType = new FrameRateType(shortName, registered.length, rateNumerator,
+														rateDenominator, dropFrames, frameCountLimit);
 
+		Name[][] names = namesByLength;
+		names = addName(names, shortName, frameRateType);
+		for (String alias : aliases)
+			names = addName(names, alias, frameRateType);
+
+		FrameRateType[] newFrameRateTypes = Arrays.copyOf(registered, registered.length + 1);
+		newFrameRateTypes[registered.length] = frameRateType;
+		namesByLength = names;
+		frameRateTypes = newFrameRateTypes;
+		return frameRateType;
+	}
+
+	private static Name[][] addName(Name[][] names, String string, FrameRateType frameRateType) {
+		checkArgument(! string.isEmpty(), "Frame rate names can't be empty");
+		checkArgument(lookUp(names, string) == null, "Frame rate %s is already registered", string);
+		int length = string.length();
+		Name[][] newNames = Arrays.copyOf(names, Math.max(names.length, length + 1));
+		Name[] sameLengthNames = newNames[length] == null ? new Name[0] : newNames[length];
+		newNames[length] = Arrays.copyOf(sameLengthNames, sameLengthNames.length + 1);
+		newNames[length][sameLengthNames.length] = new Name(string.toLowerCase(Locale.ROOT), frameRateType);
+		return newNames;
+	}
+
+	/**
+	 * @return All the registered frame rates, in the order of their ordinal
+	 */
+	public static FrameRateType[] values() {
+		return frameRateTypes.clone();
+	}
+
+	/**
+	 * @return The registered frame rate of the given ordinal
+	 */
+	static FrameRateType fromOrdinal(int ordinal) {
+		return frameRateTypes[ordinal];
+	}
+
+	/**
+	 * Parses the given <tt>String</tt> to a <tt>FrameRateType</tt>. Besides the short name
+	 * of the frame rates, their aliases are accepted, like <tt>25</tt>, <tt>PAL</tt>,
+	 * <tt>29.97DF</tt> or <tt>23.976</tt>, all of them ignoring case.
+	 *
+	 * @param string The frame rate
+	 *
+	 * @return The FrameRateType
+	 *
+	 * @throws TimecodeException if the given <tt>String</tt> is not a valid frame rate
+	 */
+	public static FrameRateType fromString(String string) throws TimecodeException {
+		return fromString((CharSequence) string);
+	}
+
+	/**
+	 * Parses the given <tt>CharSequence</tt> to a <tt>FrameRateType</tt>. Allows
+	 * to parse the frame rate from views of a bigger buffer without creating
+	 * a <tt>String</tt> for it.
+	 *
+	 * @param chars The characters of the frame rate
+	 *
+	 * @return The FrameRateType
+	 *
+	 * @throws TimecodeException if the given characters are not a valid frame rate
+	 * @see #fromString(String)
+	 */
+	public static FrameRateType fromString(CharSequence chars) throws TimecodeException {
+		FrameRateType frameRateType = tryFromString(chars);
 		if (frameRateType == null)
-			throw new TimecodeException(INVALID_FRAME_RATE);
+			throw TimecodeException.stackless(INVALID_FRAME_RATE);
+		return frameRateType;
+	}
 
+	/**
+	 * Parses the given <tt>CharSequence</tt> to a <tt>FrameRateType</tt> like
+	 * {@link #fromString(CharSequence)}, without throwing an exception
+	 *
+	 * @param chars The characters of the frame rate
+	 *
+	 * @return The FrameRateType, or <tt>null</tt> if the characters are not a valid frame rate
+	 */
+	static FrameRateType tryFromString(CharSequence chars) {
+		return lookUp(namesByLength, chars);
+	}
+
+	/**
+	 * Looks up the names of the same length of the given characters, comparing
+	 * their first character before the rest of them
+	 */
+	private static FrameRateType lookUp(Name[][] names, CharSequence chars) {
+		int length = chars.length();
+		FrameRateType frameRateType = null;
+		if (length > 0 && length < names.length && names[length] != null) {
+			Name[] sameLengthNames = names[length];
+			char firstCharacter = Character.toLowerCase(chars.charAt(0));
+			for (int i = 0; i < sameLengthNames.length && frameRateType == null; i++)
+				if (sameLengthNames[i].string.charAt(0) == firstCharacter && sameLengthNames[i].matches(chars))
+					frameRateType = sameLengthNames[i].frameRateType;
+		}
 		return frameRateType;
 	}
 
+	/**
+	 * Checks if the given values are the label of a timecode of this frame rate. It's the check of the
+	 * timecodes given by their hours, minutes, seconds and frames, with or without exceptions.
+	 *
+	 * <p>On drop frame rates, the labels of the first frames of every minute but the tenth ones,
+	 * like 00:01:00;00 and 00:01:00;01 at 29.97 fps, are skipped, so they are not valid.</p>
+	 */
 	public boolean areValidValues(int hours, int minutes, int seconds, int frames) {
 		boolean validHours = hours >= 0 && hours < 24;
 		boolean validMinutes = minutes >= 0 && minutes < 60;
 		boolean validSeconds = seconds >= 0 && seconds < 60;
-		boolean validFrames = false;
-		if (equals(FPS24))
-			validFrames = frames >= 0 && frames < 24;
-		else if (equals(FPS25))
-			validFrames = frames >= 0 && frames < 25;
-		else if (equals(FPS30) || equals(DF30))
-			validFrames = frames >= 0 && frames < 30;
-		return validHours && validMinutes && validSeconds && validFrames;
+		boolean validFrames = frames >= 0 && frames < frameMax;
+		boolean droppedLabel = seconds == 0 && frames < dropFrames && minutes % 10 != 0;
+		return validHours && validMinutes && validSeconds && validFrames && ! droppedLabel;
+	}
+
+	/**
+	 * Checks if the given frame count is of a timecode of this frame rate, between zero and the
+	 * frame count limit. It's the check of the timecodes given by their frame count, with or
+	 * without exceptions.
+	 */
+	public boolean isValidFrameCount(int frameCount) {
+		return frameCount >= 0 && frameCount < frameCountLimit;
+	}
+
+	/**
+	 * Counts the number of frames of a timecode of this frame rate
+	 * given by its hours, minutes, seconds and frames
+	 */
+	int countFrames(int hours, int minutes, int seconds, int frames) {
+		return TimecodeUnits.countFrames(this, hours, minutes, seconds, frames);
+	}
+
+	/**
+	 * Returns the number of frames that the timecode labels count up to the given
+	 * frame count. It is the frame count itself except on drop frame rates,
+	 * in which the dropped frame numbers are added back (reverse drop frame calculation).
+	 * Hours, minutes, seconds and frames are then obtained dividing it by {@link #getFrameMax()}.
+	 */
+	int labelFrames(int frameCount) {
+		return TimecodeUnits.labelFrames(this, frameCount);
+	}
+
+	/**
+	 * @return The position of the frame rate in the order of registration, like the ordinal of an <tt>enum</tt>
+	 */
+	public int ordinal() {
+		return ordinal;
+	}
+
+	/**
+	 * @return The numerator of the exact number of frames per second
+	 */
+	public int getRateNumerator() {
+		return rateNumerator;
+	}
+
+	/**
+	 * @return The denominator of the exact number of frames per second
+	 */
+	public int getRateDenominator() {
+		return rateDenominator;
+	}
+
+	/**
+	 * @return The number of frames per second of the timecode labels
+	 */
+	public int getFrameMax() {
+		return frameMax;
+	}
+
+	/**
+	 * @return The number of frame labels dropped every minute but the tenth ones
+	 */
+	public int getDropFrames() {
+		return dropFrames;
+	}
+
+	/**
+	 * @return The number of frames of the minutes that drop frame labels
+	 */
+	int getFramesPerMinute() {
+		return framesPerMinute;
+	}
+
+	/**
+	 * @return The number of frames of every ten minutes
+	 */
+	int getFramesPerTenMinutes() {
+		return framesPerTenMinutes;
+	}
+
+	TimecodeUnits.Divisor getFrameMaxDivisor() {
+		return frameMaxDivisor;
+	}
+
+	TimecodeUnits.Divisor getFramesPerMinuteDivisor() {
+		return framesPerMinuteDivisor;
+	}
+
+	TimecodeUnits.Divisor getFramesPerTenMinutesDivisor() {
+		return framesPerTenMinutesDivisor;
+	}
+
+	/**
+	 * @return The lowest frame count that is not admitted by timecodes of this frame rate
+	 */
+	public int getFrameCountLimit() {
+		return frameCountLimit;
+	}
+
+	public boolean isDropFrame() {
+		return dropFrames != 0;
+	}
+
+	/**
+	 * @return The character between the seconds and the frames in the string representation
+	 */
+	public char getFramesSeparator() {
+		return dropFrames != 0 ? ';' : ':';
+	}
+
+	/**
+	 * @return The number of digits of the frames in the string representation, 2 or 3
+	 */
+	public int getFrameDigits() {
+		return frameMax > 100 ? 3 : 2;
+	}
+
+	/**
+	 * @return The length of the string representation of the timecodes of this frame rate
+	 */
+	public int getStringLength() {
+		return TimecodeFormat.LENGTH - 2 + getFrameDigits();
 	}
 
 	@Override
 	public String toString() {
 		return shortName;
 	}
+
+	private static final class Name {
+
+		private final String string;
+		private final FrameRateType frameRateType;
+
+		private Name(String string, FrameRateType frameRateType) {
+			this.string = string;
+			this.frameRateType = frameRateType;
+		}
+
+		/**
+		 * @return <tt>true</tt> if the given characters, of the same length, are the name ignoring case
+		 */
+		private boolean matches(CharSequence chars) {
+			boolean matches = true;
+			for (int i = 1; i < string.length() && matches; i++)
+				matches = string.charAt(i) == Character.toLowerCase(chars.charAt(i));
+			return matches;
+		}
+	}
 }
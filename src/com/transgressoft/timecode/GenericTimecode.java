@@ -0,0 +1,54 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Class that represents a {@link Timecode} implementation of any frame rate, driven
+ * by the values of its {@link FrameRateType}. It is used for the frame rates without
+ * a class of their own, like 23.976, 50 or 59.94 drop frame, and the custom ones.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ * @see <a href="https://en.wikipedia.org/wiki/SMPTE_timecode">SMPTE Timecode</a>
+ */
+public final class GenericTimecode extends TimecodeBase {
+
+	private GenericTimecode(FrameRateType frameRateType, int frameCount) {
+		super(frameRateType, frameCount);
+	}
+
+	private GenericTimecode(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames,
+			int frameCount) {
+		super(frameRateType, hours, minutes, seconds, frames, frameCount);
+	}
+
+	public static GenericTimecode of(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+		checkValues(frameRateType, hours, minutes, seconds, frames);
+		int frameCount = frameRateType.countFrames(hours, minutes, seconds, frames);
+		return new GenericTimecode(frameRateType, hours, minutes, seconds, frames, frameCount);
+	}
+
+	public static GenericTimecode of(FrameRateType frameRateType, int frameCount) {
+		checkFrameCount(frameRateType, frameCount);
+		return new GenericTimecode(frameRateType, frameCount);
+	}
+
+	@Override
+	protected GenericTimecode newInstance(int hours, int minutes, int seconds, int frames, int frameCount) {
+		return new GenericTimecode(getFrameRateType(), hours, minutes, seconds, frames, frameCount);
+	}
+}
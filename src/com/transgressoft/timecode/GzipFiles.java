@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * Gzipped files read and written by the batch conversion, detected by their <tt>.gz</tt> extension.
+ *
+ * <p>A gzipped file is decompressed by its own thread, pipelined with the one reading it: the
+ * decompressed bytes are passed in blocks through a bounded queue, so decompression continues while
+ * the previous blocks are parsed, and the blocks are reused once they've been read.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class GzipFiles {
+
+	static final String EXTENSION = ".gz";
+	static final int BLOCK_SIZE = 1 << 16;
+
+	/**
+	 * Number of blocks of decompressed bytes, being decompressed or waiting to be read
+	 */
+	private static final int BLOCKS = 4;
+
+	private GzipFiles() {}
+
+	static boolean isGzipped(File file) {
+		return file.getName().endsWith(EXTENSION);
+	}
+
+	/**
+	 * Opens a gzipped file to be read decompressed by its own thread
+	 *
+	 * @param file The gzipped file
+	 *
+	 * @return The decompressed input stream, which stops the thread when it's closed
+	 *
+	 * @throws IOException If the file can't be opened or it's not in gzip format
+	 */
+	static InputStream newInputStream(File file) throws IOException {
+		InputStream fileInput = new FileInputStream(file);
+		try {
+			return pipelined(new GZIPInputStream(fileInput, BLOCK_SIZE));
+		}
+		catch (IOException exception) {
+			fileInput.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Reads the given input stream by its own thread, in blocks passed through a bounded queue
+	 *
+	 * @param input The input stream, which is closed by the thread at its end or on an error
+	 *
+	 * @return The pipelined input stream, which stops the thread when it's closed
+	 */
+	static InputStream pipelined(InputStream input) {
+		return new PipelinedInputStream(input);
+	}
+
+	/**
+	 * Creates or truncates a file to be written gzipped. It's compressed with the fastest level,
+	 * since the default one is about ten times slower on timecode lines for an output only a
+	 * fifth smaller, which would make compression the bottleneck of the conversion.
+	 *
+	 * @param file The file
+	 * @param sync Whether to sync the file to the storage device when the stream is closed
+	 *
+	 * @return The output stream, which writes the gzip trailer when it's closed
+	 *
+	 * @throws IOException If the file can't be opened
+	 */
+	static OutputStream newOutputStream(File file, boolean sync) throws IOException {
+		FileOutputStream fileOutput = new FileOutputStream(file);
+		return new GZIPOutputStream(fileOutput, BLOCK_SIZE) {
+
+			{
+				def.setLevel(Deflater.BEST_SPEED);
+			}
+
+			@Override
+			public void close() throws IOException {
+				try {
+					finish();
+					if (sync)
+						fileOutput.getFD().sync();
+				}
+				finally {
+					super.close();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Estimates the length of the decompressed content of a gzipped file, used to size the
+	 * chunks of lines. The gzip trailer stores it modulo 2<sup>32</sup>, and only for the last
+	 * member of the file, so the length of the file itself is the lower bound of the estimate.
+	 *
+	 * @param file The gzipped file
+	 *
+	 * @return The estimated length in bytes
+	 *
+	 * @throws IOException If the file can't be read
+	 */
+	static long uncompressedLength(File file) throws IOException {
+		long length = file.length();
+		if (length >= Integer.BYTES)
+			try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+				input.seek(length - Integer.BYTES);
+				length = Math.max(length, Integer.toUnsignedLong(Integer.reverseBytes(input.readInt())));
+			}
+		return length;
+	}
+
+	/**
+	 * Input stream of the blocks decompressed by a thread from a gzip input stream
+	 */
+	private static final class PipelinedInputStream extends InputStream {
+
+		/**
+		 * Block queued after the last one, at the end of the input or when decompression fails
+		 */
+		private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+		private final BlockingQueue<ByteBuffer> freeBlocks = new ArrayBlockingQueue<>(BLOCKS);
+		private final BlockingQueue<ByteBuffer> filledBlocks = new ArrayBlockingQueue<>(BLOCKS + 1);
+		private final Thread decompressor;
+		private volatile Throwable error;
+		private ByteBuffer block;
+
+		private PipelinedInputStream(InputStream gzipInput) {
+			for (int i = 0; i < BLOCKS; i++)
+				freeBlocks.add(ByteBuffer.allocate(BLOCK_SIZE));
+			decompressor = new Thread(() -> decompress(gzipInput), "gzip-decompressor");
+			decompressor.setDaemon(true);
+			decompressor.start();
+		}
+
+		/**
+		 * Fills the free blocks with the decompressed bytes and queues them to be read, until the
+		 * end of the input, an error, or the stream being closed, that interrupts the thread.
+		 * Any error, not only an <tt>IOException</tt>, is passed to the reader, and the end block
+		 * is always queued, so that the reader never waits for a block that won't come.
+		 */
+		private void decompress(InputStream gzipInput) {
+			try (InputStream input = gzipInput) {
+				ByteBuffer freeBlock = freeBlocks.take();
+				int read;
+				while ((read = input.read(freeBlock.array(), freeBlock.position(), freeBlock.remaining())) != - 1) {
+					freeBlock.position(freeBlock.position() + read);
+					if (! freeBlock.hasRemaining()) {
+						freeBlock.flip();
+						filledBlocks.put(freeBlock);
+						freeBlock = freeBlocks.take();
+					}
+				}
+				freeBlock.flip();
+				if (freeBlock.hasRemaining())
+					filledBlocks.put(freeBlock);
+			}
+			catch (InterruptedException exception) {
+				// The stream was closed before reading all of it
+			}
+			catch (Throwable exception) {
+				error = exception;
+			}
+			finally {
+				// there is always room for it, the queue holds one more block than there are
+				filledBlocks.offer(END);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			return nextBlock() ? block.get() & 0xFF : - 1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) throws IOException {
+			if (offset < 0 || length < 0 || length > bytes.length - offset)
+				throw new IndexOutOfBoundsException();
+			int read = 0;
+			if (length > 0 && ! nextBlock())
+				read = - 1;
+			else if (length > 0) {
+				read = Math.min(length, block.remaining());
+				block.get(bytes, offset, read);
+			}
+			return read;
+		}
+
+		@Override
+		public int available() {
+			return block == null ? 0 : block.remaining();
+		}
+
+		/**
+		 * Takes the next decompressed block if the current one has been read, giving it back to be filled again
+		 *
+		 * @return <tt>false</tt> at the end of the input
+		 *
+		 * @throws IOException If decompression failed
+		 */
+		private boolean nextBlock() throws IOException {
+			while (block == null || (block != END && ! block.hasRemaining())) {
+				if (block != null) {
+					block.clear();
+					freeBlocks.add(block);
+				}
+				try {
+					block = filledBlocks.take();
+				}
+				catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted waiting for the decompressed input");
+				}
+			}
+			if (block == END && error != null)
+				throw new IOException("Decompression failed: " + error, error);
+			return block != END;
+		}
+
+		@Override
+		public void close() {
+			decompressor.interrupt();
+		}
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeException.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.INVALID_LINE_FORMAT;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Converts big input files of the {@link TimecodeStringRunner} mapping them in memory.
+ *
+ * <p>The input file is split at line boundaries in as many regions as threads, which are
+ * converted concurrently. Each region is parsed straight from the mapped bytes, without
+ * a <tt>String</tt> per line. The lines of each frame rate have a fixed width, so the regions
+ * but the last one are parsed first to add up the length of their output, and then each region
+ * writes its converted lines with an {@link AsciiTimecodeWriter} straight into the output file,
+ * from the position where the output of the regions before it ends. The output file is synced
+ * to the storage device once every region is done, if requested.
+ * If the output file ends with <tt>.gz</tt> the length of its compressed parts is not known in advance,
+ * so each part is gzipped on its own to a temporary file, so that they are compressed concurrently too,
+ * and the output file is the concatenation of their gzip members.</p>
+ *
+ * <p>If a reject file is given, invalid lines don't stop the conversion. The lines of the regions
+ * but the last one are counted first too, so that each region writes its invalid lines numbered
+ * from the start of the input to its own part of the reject file, and the parts are joined in order
+ * as they are.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class MappedFileConverter {
+
+	/**
+	 * Maximum size of a region, below the 2GB limit of a {@link MappedByteBuffer}
+	 */
+	private static final long MAX_REGION_SIZE = 1L << 30;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private final File inputFile;
+	private final File outputFile;
+	private final File rejectFile;
+	private final int threads;
+	private final int bufferSize;
+	private final boolean sync;
+
+	/**
+	 * @param inputFile  The file to convert
+	 * @param outputFile The file to write the converted lines
+	 * @param rejectFile The file to write the invalid lines, or <tt>null</tt> to stop at the first one
+	 * @param threads    The number of threads converting the regions
+	 * @param bufferSize The size in bytes of the buffer of the writer of each region
+	 * @param sync       Whether to sync the output file to the storage device once it's joined
+	 */
+	MappedFileConverter(File inputFile, File outputFile, File rejectFile, int threads, int bufferSize, boolean sync) {
+		this.inputFile = inputFile;
+		this.outputFile = outputFile;
+		this.rejectFile = rejectFile;
+		this.threads = threads;
+		this.bufferSize = bufferSize;
+		this.sync = sync;
+	}
+
+	ConversionReport convert() throws Exception {
+		File outputDirectory = outputFile.getAbsoluteFile().getParentFile();
+		boolean gzipOutput = GzipFiles.isGzipped(outputFile);
+		List<File> parts = new ArrayList<>();
+		List<File> rejectParts = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try (FileChannel input = FileChannel.open(inputFile.toPath(), READ);
+			 FileChannel output = FileChannel.open(outputFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+			long[] boundaries = regionBoundaries(input);
+			int regions = boundaries.length - 1;
+			long[] linesBefore = new long[regions];
+			long[] outputOffsets = new long[regions];
+			if (! gzipOutput || rejectFile != null)
+				measureRegions(input, boundaries, linesBefore, outputOffsets, executor);
+			List<Future<ConversionReport>> convertedRegions = new ArrayList<>();
+			for (int region = 0; region < regions; region++) {
+				File part = null;
+				if (gzipOutput) {
+					part = File.createTempFile(outputFile.getName(), ".part", outputDirectory);
+					parts.add(part);
+				}
+				File rejectPart = null;
+				if (rejectFile != null) {
+					rejectPart = File.createTempFile(rejectFile.getName(), ".part", outputDirectory);
+					rejectParts.add(rejectPart);
+				}
+				long start = boundaries[region];
+				long end = boundaries[region + 1];
+				long regionLinesBefore = linesBefore[region];
+				long outputOffset = outputOffsets[region];
+				File regionPart = part;
+				File regionRejectPart = rejectPart;
+				convertedRegions.add(executor.submit(
+						() -> convertRegion(input, start, end, regionLinesBefore,
+											regionOutput(output, outputOffset, regionPart), regionRejectPart)));
+			}
+			List<ConversionReport> regionReports = new ArrayList<>();
+			for (Future<ConversionReport> convertedRegion : convertedRegions)
+				regionReports.add(waitFor(convertedRegion));
+			if (gzipOutput)
+				joinParts(parts, output);
+			if (sync)
+				output.force(true);
+			if (rejectFile != null)
+				try (FileChannel rejects = FileChannel.open(rejectFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING)) {
+					joinParts(rejectParts, rejects);
+				}
+
+			ConversionReport report = new ConversionReport();
+			for (ConversionReport regionReport : regionReports)
+				report.add(regionReport);
+			return report;
+		}
+		finally {
+			executor.shutdownNow();
+			for (File part : parts)
+				part.delete();
+			for (File rejectPart : rejectParts)
+				rejectPart.delete();
+		}
+	}
+
+	/**
+	 * Splits the input in regions of about the same size, at least one per thread,
+	 * that start at the beginning of a line
+	 *
+	 * @return The start positions of the regions, followed by the size of the input
+	 */
+	long[] regionBoundaries(FileChannel input) throws IOException {
+		long size = input.size();
+		long regions = Math.max(threads, (size + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE);
+		long regionSize = Math.max(1, size / regions);
+
+		long[] boundaries = new long[(int) regions + 1];
+		int count = 1;
+		for (int region = 1; region < regions; region++) {
+			long boundary = nextLineStart(input, Math.max(boundaries[count - 1], region * regionSize));
+			if (boundary > boundaries[count - 1] && boundary < size)
+				boundaries[count++] = boundary;
+		}
+		boundaries[count++] = size;
+		return Arrays.copyOf(boundaries, count);
+	}
+
+	/**
+	 * @return The position of the first line that starts at the given position or after it, which
+	 *         follows a line separator like the ones of a <tt>BufferedReader</tt>: '\n', '\r' or "\r\n"
+	 */
+	private long nextLineStart(FileChannel input, long position) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		long lineStart = -1;
+		boolean carriageReturn = false;
+		while (lineStart == -1 && input.read(buffer, position) > 0) {
+			buffer.flip();
+			while (buffer.hasRemaining() && lineStart == -1) {
+				byte character = buffer.get();
+				if (carriageReturn && character != '\n')
+					lineStart = position + buffer.position() - 1;
+				else if (character == '\n')
+					lineStart = position + buffer.position();
+				carriageReturn = character == '\r';
+			}
+			position += buffer.limit();
+			buffer.clear();
+		}
+		return lineStart == -1 ? input.size() : lineStart;
+	}
+
+	/**
+	 * Counts concurrently the lines of each region but the last one, and parses them to add up the length
+	 * of their output unless the output file is gzipped, to know where the lines of each region start
+	 *
+	 * @param linesBefore   Filled with the number of lines of the input before each region
+	 * @param outputOffsets Filled with the position of the output file where the output of each region starts
+	 */
+	private void measureRegions(FileChannel input, long[] boundaries, long[] linesBefore, long[] outputOffsets,
+			ExecutorService executor) throws Exception {
+		boolean parse = ! GzipFiles.isGzipped(outputFile);
+		List<Future<long[]>> regionSizes = new ArrayList<>();
+		for (int region = 0; region < boundaries.length - 2; region++) {
+			long start = boundaries[region];
+			long end = boundaries[region + 1];
+			regionSizes.add(executor.submit(() -> measureRegion(input, start, end, parse)));
+		}
+		for (int region = 1; region < linesBefore.length; region++) {
+			long[] regionSize = waitFor(regionSizes.get(region - 1));
+			linesBefore[region] = linesBefore[region - 1] + regionSize[0];
+			outputOffsets[region] = outputOffsets[region - 1] + regionSize[1];
+		}
+	}
+
+	/**
+	 * Counts the lines of a region and, if requested, parses them to add up the length of the lines
+	 * written for them, stopping at the first invalid line if there is no reject file
+	 *
+	 * @return The number of lines and the length of their output
+	 */
+	private long[] measureRegion(FileChannel input, long start, long end, boolean parse)
+			throws IOException, TimecodeException {
+		MappedByteBuffer region = input.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		AsciiCharSequence frameRate = new AsciiCharSequence(region);
+		AsciiCharSequence value = new AsciiCharSequence(region);
+		long lines = 0;
+		long outputLength = 0;
+		int lineStart = 0;
+		while (lineStart < region.limit()) {
+			int lineEnd = lineEnd(region, lineStart);
+			if (parse) {
+				long packedTimecode = tryConvertLine(region, lineStart, lineEnd, frameRate, value);
+				if (! PackedTimecode.isError(packedTimecode))
+					outputLength += AsciiTimecodeWriter.lineLength(packedTimecode);
+				else if (rejectFile == null)
+					throw TimecodeException.stackless(PackedTimecode.errorCase(packedTimecode));
+			}
+			lines++;
+			lineStart = nextLineStart(region, lineEnd);
+		}
+		return new long[] {lines, outputLength};
+	}
+
+	/**
+	 * Converts the lines of a region, writing the invalid ones numbered from the start of the input
+	 *
+	 * @param linesBefore The number of lines of the input before the region
+	 */
+	private ConversionReport convertRegion(FileChannel input, long start, long end, long linesBefore,
+			AsciiTimecodeWriter regionOutput, File rejectPart) throws Exception {
+		MappedByteBuffer region = input.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		AsciiCharSequence frameRate = new AsciiCharSequence(region);
+		AsciiCharSequence value = new AsciiCharSequence(region);
+		AsciiCharSequence line = new AsciiCharSequence(region);
+		ConversionReport report = new ConversionReport();
+
+		try (AsciiTimecodeWriter output = regionOutput;
+			 Writer rejects = rejectPart == null ? null : new BufferedWriter(new FileWriter(rejectPart))) {
+			int lineStart = 0;
+			while (lineStart < region.limit()) {
+				int lineEnd = lineEnd(region, lineStart);
+				long packedTimecode = tryConvertLine(region, lineStart, lineEnd, frameRate, value);
+				if (PackedTimecode.isError(packedTimecode)) {
+					ErrorCase errorCase = PackedTimecode.errorCase(packedTimecode);
+					if (rejects == null)
+						throw TimecodeException.stackless(errorCase);
+					report.rejected(linesBefore + report.getLines() + 1, errorCase,
+									line.view(lineStart, lineEnd - lineStart), rejects);
+				}
+				else {
+					output.write(packedTimecode);
+					report.converted();
+				}
+				lineStart = nextLineStart(region, lineEnd);
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Creates the writer of the output of a region, to the output file from the given position,
+	 * or to a gzipped part if the output file is gzipped
+	 */
+	private AsciiTimecodeWriter regionOutput(FileChannel output, long position, File part) throws IOException {
+		AsciiTimecodeWriter writer;
+		if (part != null)
+			writer = new AsciiTimecodeWriter(Channels.newChannel(GzipFiles.newOutputStream(part, false)),
+											 bufferSize);
+		else
+			writer = AsciiTimecodeWriter.at(output, position, bufferSize);
+		return writer;
+	}
+
+	/**
+	 * @return The position of the end of the line, at its line separator, which is '\n', '\r' or "\r\n"
+	 *         like the ones of the <tt>BufferedReader</tt> used with smaller files
+	 */
+	private int lineEnd(ByteBuffer region, int lineStart) {
+		int lineEnd = lineStart;
+		while (lineEnd < region.limit() && region.get(lineEnd) != '\n' && region.get(lineEnd) != '\r')
+			lineEnd++;
+		return lineEnd;
+	}
+
+	private int nextLineStart(ByteBuffer region, int lineEnd) {
+		int separatorLength = 1;
+		if (lineEnd + 1 < region.limit() && region.get(lineEnd) == '\r' && region.get(lineEnd + 1) == '\n')
+			separatorLength = 2;
+		return lineEnd + separatorLength;
+	}
+
+	/**
+	 * Splits the line in the frame rate and value views, the same way as the <tt>StringTokenizer</tt>
+	 * used with smaller files does, and converts it without throwing exceptions
+	 *
+	 * @return The packed timecode, or a negative number with the error case if the line is not valid
+	 */
+	private long tryConvertLine(ByteBuffer region, int lineStart, int lineEnd, AsciiCharSequence frameRate,
+			AsciiCharSequence value) {
+		long packedTimecode;
+		if (splitLine(region, lineStart, lineEnd, frameRate, value))
+			packedTimecode = PackedTimecode.tryParse(frameRate, value);
+		else
+			packedTimecode = PackedTimecode.error(INVALID_LINE_FORMAT);
+		return packedTimecode;
+	}
+
+	/**
+	 * Moves the frame rate and value views to the two tokens of the line
+	 *
+	 * @return <tt>false</tt> if the line doesn't have exactly two tokens
+	 */
+	private boolean splitLine(ByteBuffer region, int lineStart, int lineEnd, AsciiCharSequence frameRate,
+			AsciiCharSequence value) {
+		int frameRateStart = skipSpaces(region, lineStart, lineEnd);
+		int frameRateEnd = skipToken(region, frameRateStart, lineEnd);
+		int valueStart = skipSpaces(region, frameRateEnd, lineEnd);
+		int valueEnd = skipToken(region, valueStart, lineEnd);
+		frameRate.view(frameRateStart, frameRateEnd - frameRateStart);
+		value.view(valueStart, valueEnd - valueStart);
+		return frameRateStart != frameRateEnd && valueStart != valueEnd &&
+				skipSpaces(region, valueEnd, lineEnd) == lineEnd;
+	}
+
+	private int skipSpaces(ByteBuffer region, int position, int lineEnd) {
+		while (position < lineEnd && region.get(position) == ' ')
+			position++;
+		return position;
+	}
+
+	private int skipToken(ByteBuffer region, int position, int lineEnd) {
+		while (position < lineEnd && region.get(position) != ' ')
+			position++;
+		return position;
+	}
+
+	/**
+	 * Joins the parts in order into the given file, the gzipped parts of the output or the parts of the reject file
+	 */
+	private void joinParts(List<File> parts, FileChannel output) throws IOException {
+		for (File part : parts) {
+			try (FileChannel partChannel = FileChannel.open(part.toPath(), READ)) {
+				long size = partChannel.size();
+				long position = 0;
+				while (position < size)
+					position += partChannel.transferTo(position, size - position, output);
+			}
+		}
+	}
+
+	private <T> T waitFor(Future<T> task) throws Exception {
+		try {
+			return task.get();
+		}
+		catch (ExecutionException exception) {
+			Throwable cause = exception.getCause();
+			throw cause instanceof Exception ? (Exception) cause : exception;
+		}
+	}
+}
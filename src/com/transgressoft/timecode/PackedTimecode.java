@@ -0,0 +1,356 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeException.*;
+
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+
+/**
+ * Operations on timecodes encoded in a single <tt>long</tt>, so that big amounts
+ * of them can be stored in a <tt>long[]</tt> instead of as {@link Timecode} objects.
+ *
+ * <p>The bits of a packed timecode are, from the lowest to the highest:</p>
+ * <ul>
+ *     <li>0-31: frame count</li>
+ *     <li>32-38: frames</li>
+ *     <li>39-44: seconds</li>
+ *     <li>45-50: minutes</li>
+ *     <li>51-55: hours</li>
+ *     <li>56-62: ordinal of the {@link FrameRateType}</li>
+ * </ul>
+ *
+ * <p>A packed timecode is always positive, and its frame count is always between
+ * zero and the frame count limit of its frame rate, but for the last frame of the day
+ * of {@link FrameRateType#DF30}, which is only valid given by its hours, minutes, seconds
+ * and frames. Packed timecodes of the same frame rate are ordered by their <tt>long</tt> value.</p>
+ *
+ * <p>The values are validated with {@link FrameRateType#isValidFrameCount(int)} and
+ * {@link FrameRateType#areValidValues(int, int, int, int)}, like the {@link Timecode} objects,
+ * so the methods that throw exceptions and the ones that don't accept the same values.</p>
+ *
+ * <p>The <tt>try</tt> methods don't throw exceptions on invalid values, which is faster
+ * when validating big amounts of them. They return a negative number instead, from which
+ * the {@link ErrorCase} is obtained with {@link #errorCase(long)}.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class PackedTimecode {
+
+	private static final int FRAMES_SHIFT = 32;
+	private static final int SECONDS_SHIFT = 39;
+	private static final int MINUTES_SHIFT = 45;
+	private static final int HOURS_SHIFT = 51;
+	private static final int FRAME_RATE_SHIFT = 56;
+
+	private static final long FRAME_COUNT_MASK = 0xFFFFFFFFL;
+	private static final long FRAMES_MASK = 0x7F;
+	private static final long SECONDS_MASK = 0x3F;
+	private static final long MINUTES_MASK = 0x3F;
+	private static final long HOURS_MASK = 0x1F;
+	private static final long FRAME_RATE_MASK = 0x7F;
+
+	private static final ErrorCase[] ERROR_CASES = ErrorCase.values();
+
+	/**
+	 * Maximum length of the string representation of a packed timecode,
+	 * on frame rates with three digit frames
+	 */
+	public static final int STRING_LENGTH = TimecodeFormat.MAX_LENGTH;
+
+	private PackedTimecode() {}
+
+	/**
+	 * Packs a timecode given by its frame count
+	 *
+	 * @param frameRateType The frame rate of the timecode
+	 * @param frameCount    The number of frames
+	 *
+	 * @return The packed timecode
+	 */
+	public static long pack(FrameRateType frameRateType, int frameCount) {
+		TimecodeBase.checkFrameCount(frameRateType, frameCount);
+		return packFrameCount(frameRateType, frameCount);
+	}
+
+	/**
+	 * Packs a timecode given by its hours, minutes, seconds and frames
+	 *
+	 * @param frameRateType The frame rate of the timecode
+	 * @param hours         The number of hours
+	 * @param minutes       The number of minutes
+	 * @param seconds       The number of seconds
+	 * @param frames        The number of frames
+	 *
+	 * @return The packed timecode
+	 */
+	public static long pack(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+		TimecodeBase.checkValues(frameRateType, hours, minutes, seconds, frames);
+		int frameCount = TimecodeUnits.countFrames(frameRateType, hours, minutes, seconds, frames);
+		return pack(frameRateType, hours, minutes, seconds, frames, frameCount);
+	}
+
+	/**
+	 * Packs a timecode given by its frame count, without throwing an exception if it's not valid
+	 *
+	 * @param frameRateType The frame rate of the timecode
+	 * @param frameCount    The number of frames
+	 *
+	 * @return The packed timecode, or a negative number if the frame count is not valid
+	 */
+	public static long tryPack(FrameRateType frameRateType, int frameCount) {
+		long packedTimecode;
+		if (! frameRateType.isValidFrameCount(frameCount))
+			packedTimecode = error(frameCount < 0 ? FRAME_COUNT_LESS_0 : FRAME_COUNT_GREATER_LIMIT);
+		else
+			packedTimecode = packFrameCount(frameRateType, frameCount);
+		return packedTimecode;
+	}
+
+	/**
+	 * Packs a timecode given by its hours, minutes, seconds and frames,
+	 * without throwing an exception if it's not valid
+	 *
+	 * @param frameRateType The frame rate of the timecode
+	 * @param hours         The number of hours
+	 * @param minutes       The number of minutes
+	 * @param seconds       The number of seconds
+	 * @param frames        The number of frames
+	 *
+	 * @return The packed timecode, or a negative number if the values are not valid
+	 */
+	public static long tryPack(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+		long packedTimecode;
+		if (! frameRateType.areValidValues(hours, minutes, seconds, frames))
+			packedTimecode = error(INVALID_TIMECODE);
+		else {
+			int frameCount = TimecodeUnits.countFrames(frameRateType, hours, minutes, seconds, frames);
+			packedTimecode = pack(frameRateType, hours, minutes, seconds, frames, frameCount);
+		}
+		return packedTimecode;
+	}
+
+	/**
+	 * Parses a timecode given as hh:mm:ss:ff (or hh:mm:ss;ff) or as a frame count,
+	 * without throwing an exception if it's not valid
+	 *
+	 * @param frameRate The frame rate of the timecode
+	 * @param value     The value of the timecode
+	 *
+	 * @return The packed timecode, or a negative number if the frame rate or the value are not valid
+	 */
+	public static long tryParse(CharSequence frameRate, CharSequence value) {
+		return TimecodeParser.tryParse(frameRate, value);
+	}
+
+	/**
+	 * @return <tt>true</tt> if the given number is the result of a <tt>try</tt> method that failed
+	 */
+	public static boolean isError(long packedTimecode) {
+		return packedTimecode < 0;
+	}
+
+	/**
+	 * @return The {@link ErrorCase} of the result of a <tt>try</tt> method that failed,
+	 *         or <tt>null</tt> if it is a packed timecode
+	 */
+	public static ErrorCase errorCase(long packedTimecode) {
+		return packedTimecode < 0 ? ERROR_CASES[(int) (- packedTimecode - 1)] : null;
+	}
+
+	static long error(ErrorCase errorCase) {
+		return - (errorCase.ordinal() + 1L);
+	}
+
+	static long packFrameCount(FrameRateType frameRateType, int frameCount) {
+		int units = TimecodeUnits.fromFrameCount(frameRateType, frameCount);
+		return pack(frameRateType, TimecodeUnits.hours(units), TimecodeUnits.minutes(units),
+					TimecodeUnits.seconds(units), TimecodeUnits.frames(units), frameCount);
+	}
+
+	private static long pack(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames,
+			int frameCount) {
+		return (long) frameRateType.ordinal() << FRAME_RATE_SHIFT
+				| (long) hours << HOURS_SHIFT
+				| (long) minutes << MINUTES_SHIFT
+				| (long) seconds << SECONDS_SHIFT
+				| (long) frames << FRAMES_SHIFT
+				| frameCount & FRAME_COUNT_MASK;
+	}
+
+	public static FrameRateType frameRateType(long packedTimecode) {
+		return FrameRateType.fromOrdinal((int) (packedTimecode >>> FRAME_RATE_SHIFT & FRAME_RATE_MASK));
+	}
+
+	public static int hours(long packedTimecode) {
+		return (int) (packedTimecode >>> HOURS_SHIFT & HOURS_MASK);
+	}
+
+	public static int minutes(long packedTimecode) {
+		return (int) (packedTimecode >>> MINUTES_SHIFT & MINUTES_MASK);
+	}
+
+	public static int seconds(long packedTimecode) {
+		return (int) (packedTimecode >>> SECONDS_SHIFT & SECONDS_MASK);
+	}
+
+	public static int frames(long packedTimecode) {
+		return (int) (packedTimecode >>> FRAMES_SHIFT & FRAMES_MASK);
+	}
+
+	public static int frameCount(long packedTimecode) {
+		return (int) packedTimecode;
+	}
+
+	/**
+	 * Sums two packed timecodes of the same frame rate
+	 *
+	 * @return The packed timecode of the sum
+	 *
+	 * @throws TimecodeException If the timecodes are of different frame rates
+	 *                           or the result is greater than the admitted
+	 */
+	public static long add(long packedTimecode, long packedTimecodeToAdd) throws TimecodeException {
+		return orThrow(tryAdd(packedTimecode, packedTimecodeToAdd));
+	}
+
+	/**
+	 * Sums two packed timecodes of the same frame rate, without throwing an exception
+	 *
+	 * @return The packed timecode of the sum, or a negative number if the timecodes are
+	 *         of different frame rates or the result is greater than the admitted
+	 */
+	public static long tryAdd(long packedTimecode, long packedTimecodeToAdd) {
+		long sum;
+		if (! sameFrameRate(packedTimecode, packedTimecodeToAdd))
+			sum = error(INVALID_ADDITION);
+		else {
+			FrameRateType frameRateType = frameRateType(packedTimecode);
+			long frameCount = (long) frameCount(packedTimecode) + frameCount(packedTimecodeToAdd);
+			if (frameCount >= frameRateType.getFrameCountLimit())
+				sum = error(RESULT_GREATER_LIMIT);
+			else
+				sum = packFrameCount(frameRateType, (int) frameCount);
+		}
+		return sum;
+	}
+
+	/**
+	 * Subtracts a packed timecode from another of the same frame rate. Unlike
+	 * {@link Timecode#subtract(Timecode)}, results lower than zero are not admitted.
+	 *
+	 * @return The packed timecode of the difference
+	 *
+	 * @throws TimecodeException If the timecodes are of different frame rates
+	 *                           or the result is lower than zero
+	 */
+	public static long subtract(long packedTimecode, long packedTimecodeToSubtract) throws TimecodeException {
+		return orThrow(trySubtract(packedTimecode, packedTimecodeToSubtract));
+	}
+
+	/**
+	 * Subtracts a packed timecode from another of the same frame rate, without throwing an exception
+	 *
+	 * @return The packed timecode of the difference, or a negative number if the timecodes
+	 *         are of different frame rates or the result is lower than zero
+	 */
+	public static long trySubtract(long packedTimecode, long packedTimecodeToSubtract) {
+		long difference;
+		if (! sameFrameRate(packedTimecode, packedTimecodeToSubtract))
+			difference = error(INVALID_SUBTRACTION);
+		else {
+			int frameCount = frameCount(packedTimecode) - frameCount(packedTimecodeToSubtract);
+			if (frameCount < 0)
+				difference = error(RESULT_LESSER_LIMIT);
+			else
+				difference = packFrameCount(frameRateType(packedTimecode), frameCount);
+		}
+		return difference;
+	}
+
+	static long orThrow(long packedTimecode) throws TimecodeException {
+		if (packedTimecode < 0)
+			throw TimecodeException.stackless(errorCase(packedTimecode));
+		return packedTimecode;
+	}
+
+	/**
+	 * Compares two packed timecodes by their frame rate and then by their frame count
+	 *
+	 * @return A negative number, zero or a positive number if the first timecode
+	 * is lesser, equal or greater than the second one
+	 */
+	public static int compare(long packedTimecode, long otherPackedTimecode) {
+		return Long.compare(packedTimecode, otherPackedTimecode);
+	}
+
+	private static boolean sameFrameRate(long packedTimecode, long otherPackedTimecode) {
+		return (packedTimecode ^ otherPackedTimecode) >>> FRAME_RATE_SHIFT == 0;
+	}
+
+	/**
+	 * Returns the string representation of a packed timecode, expressed as
+	 * hours:minutes:seconds:frames, or hours:minutes:seconds;frames on drop frame rates
+	 */
+	public static String format(long packedTimecode) {
+		char[] chars = new char[STRING_LENGTH];
+		int length = format(packedTimecode, chars, 0);
+		return new String(chars, 0, length);
+	}
+
+	/**
+	 * Writes the string representation of a packed timecode into the given array
+	 *
+	 * @param packedTimecode The packed timecode
+	 * @param destination    The array to write into
+	 * @param offset         The position of the array where the first character is written
+	 *
+	 * @return The position after the last character written
+	 */
+	public static int format(long packedTimecode, char[] destination, int offset) {
+		FrameRateType frameRateType = frameRateType(packedTimecode);
+		return TimecodeFormat.format(hours(packedTimecode), minutes(packedTimecode), seconds(packedTimecode),
+									 frames(packedTimecode), frameRateType.getFramesSeparator(),
+									 frameRateType.getFrameDigits(), destination, offset);
+	}
+
+	/**
+	 * Writes the string representation of a packed timecode into the given array as ASCII bytes
+	 *
+	 * @param packedTimecode The packed timecode
+	 * @param destination    The array to write into
+	 * @param offset         The position of the array where the first byte is written
+	 *
+	 * @return The position after the last byte written
+	 */
+	public static int format(long packedTimecode, byte[] destination, int offset) {
+		FrameRateType frameRateType = frameRateType(packedTimecode);
+		return TimecodeFormat.format(hours(packedTimecode), minutes(packedTimecode), seconds(packedTimecode),
+									 frames(packedTimecode), frameRateType.getFramesSeparator(),
+									 frameRateType.getFrameDigits(), destination, offset);
+	}
+
+	/**
+	 * Creates the {@link Timecode} object of a packed timecode
+	 */
+	public static Timecode toTimecode(long packedTimecode) {
+		return TimecodeFactory.createTimeCode(frameRateType(packedTimecode), hours(packedTimecode),
+											  minutes(packedTimecode), seconds(packedTimecode),
+											  frames(packedTimecode));
+	}
+}
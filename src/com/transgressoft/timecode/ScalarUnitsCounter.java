@@ -0,0 +1,35 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Implementation of {@link UnitsCounter} that converts one frame count at a time.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class ScalarUnitsCounter implements UnitsCounter {
+
+	@Override
+	public void countUnits(FrameRateType frameRateType, int[] frameCounts, int from, int length, int[] units,
+			int offset) {
+		for (int i = from; i < from + length; i++, offset++) {
+			int timecodeUnits = TimecodeUnits.fromFrameCount(frameRateType, frameCounts[i]);
+			units[offset] = TimecodeUnits.withoutHoursOffset(timecodeUnits);
+		}
+	}
+}
@@ -17,7 +17,8 @@
 package com.transgressoft.timecode;
 
 /**
- * Interface for Timecodes.
+ * Interface for Timecodes. Implementations are immutable, so they can be
+ * shared between threads.
  *
  * @author Octavio Calleya
  * @version 1.0
@@ -30,7 +31,7 @@ public interface Timecode {
 	 *
 	 * @param timecode The timecode to sum
 	 *
-	 * @return The object itself once the operation has been performed on it
+	 * @return A new {@link Timecode} with the result of the operation
 	 *
 	 * @throws TimecodeException If the given <tt>Timecode</tt> object is not of
 	 *                           the same type of the actual object, or the result of the
@@ -43,7 +44,7 @@ public interface Timecode {
 	 *
 	 * @param timecode The timecode to subtract
 	 *
-	 * @return The object itself once the operation has been performed on it
+	 * @return A new {@link Timecode} with the result of the operation
 	 *
 	 * @throws TimecodeException If the given <tt>Timecode</tt> object is not of
 	 *                           the same type of the actual object, or the result of the
@@ -61,6 +62,11 @@ public interface Timecode {
 
 	int getFrameCount();
 
+	/**
+	 * @return The frame rate of the timecode
+	 */
+	FrameRateType getFrameRateType();
+
 	/**
 	 * Returns a <tt>String</tt> representation of the value of a timecode
 	 * expressed as hours:minutes:seconds:frames
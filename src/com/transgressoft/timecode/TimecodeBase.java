@@ -18,106 +18,185 @@ package com.transgressoft.timecode;
 
 import java.util.*;
 
-import static com.google.common.base.Preconditions.*;
 import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
 
 /**
- * Base class implementation of {@link Timecode}.
+ * Base class implementation of {@link Timecode}. The instances are immutable,
+ * the operations return a new instance with the result.
+ *
+ * <p>A timecode stores its frame count, and its hours, minutes, seconds and frames are
+ * derived from it on the first call to one of their getters, since most of the time
+ * only the frame count of a timecode is used.</p>
+ *
+ * <p>The timecode also stores its {@link FrameRateType}, and every method that depends on
+ * the frame rate is final and implemented here with {@link TimecodeUnits}, so the calls through
+ * {@link Timecode} stay monomorphic when timecodes of several frame rates are mixed. The results
+ * of the operations are created by {@link TimecodeFactory}, and subclasses only create the results
+ * under zero.</p>
  *
  * @author Octavio Calleya
  * @version 1.0
  */
 public abstract class TimecodeBase implements Timecode {
 
-    protected int hours = 0;
-    protected int minutes = 0;
-    protected int seconds = 0;
-    protected int frames = 0;
-    protected int frameCount = 0;
+    private final FrameRateType frameRateType;
+    private final int frameCount;
+
+    /**
+     * Hours, minutes, seconds and frames packed by {@link TimecodeUnits}, computed on the
+     * first call to a getter unless they were given to the constructor. Like
+     * {@link #stringRepresentation}, it can be computed more than once by concurrent
+     * calls, always with the same result.
+     */
+    private int units;
+
+    /**
+     * String representation computed on the first call to {@link #getStringRepresentation()}
+     */
+    private String stringRepresentation;
 
     /**
      * Creates a new instance of a {@link Timecode} by the
      * given hours, minutes, seconds and frames
      *
+     * @param frameRateType
      * @param hours
      * @param minutes
      * @param seconds
      * @param frames
      */
-    protected TimecodeBase(int hours, int minutes, int seconds, int frames) {
-        this.hours = hours;
-        this.minutes = minutes;
-        this.seconds = seconds;
-        this.frames = frames;
+    protected TimecodeBase(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+        this.frameRateType = frameRateType;
+        this.units = TimecodeUnits.pack(hours, minutes, seconds, frames);
+        this.frameCount = TimecodeUnits.countFrames(frameRateType, hours, minutes, seconds, frames);
     }
 
     /**
      * Creates a new instance of a {@link Timecode} by the
-     * given frame count
+     * given frame count, which is checked by the subclass
      *
+     * @param frameRateType
      * @param frameCount
+     *
+     * @see #checkFrameCount(FrameRateType, int)
      */
-    protected TimecodeBase(int frameCount) {
-        checkArgument(frameCount >= 0, FRAME_COUNT_LESS_0.getErrorMessage());
-        String errorMessage = FRAME_COUNT_GREATER_LIMIT.getErrorMessage() + " " + getFrameCountLimit();
-        checkArgument(frameCount < getFrameCountLimit(), errorMessage);
+    protected TimecodeBase(FrameRateType frameRateType, int frameCount) {
+        this.frameRateType = frameRateType;
         this.frameCount = frameCount;
     }
 
-    protected void countFrames(int hours, int minutes, int seconds, int frames) {
-        frameCount += frames;
-        frameCount += seconds * getFrameMax();
-        frameCount += minutes * 60 * getFrameMax();
-        frameCount += hours * 60 * 60 * getFrameMax();
+    /**
+     * Creates a new instance of a {@link Timecode} with the given values, which are not validated
+     * since they are the result of an operation
+     *
+     * @param frameRateType
+     * @param hours
+     * @param minutes
+     * @param seconds
+     * @param frames
+     * @param frameCount
+     */
+    protected TimecodeBase(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames,
+            int frameCount) {
+        this.frameRateType = frameRateType;
+        this.units = TimecodeUnits.pack(hours, minutes, seconds, frames);
+        this.frameCount = frameCount;
     }
 
-    protected void countUnits(int numberOfFrames) {
-        int totalFrames = numberOfFrames;
-        hours = totalFrames / (60 * 60 * getFrameMax());
-        totalFrames -= hours * (60 * 60 * getFrameMax());
-        minutes = totalFrames / (60 * getFrameMax());
-        totalFrames -= minutes * (60 * getFrameMax());
-        seconds = totalFrames / getFrameMax();
-        frames = totalFrames % getFrameMax();
+    /**
+     * Checks that the given frame count is valid with {@link FrameRateType#isValidFrameCount(int)},
+     * the same check of the methods that don't throw exceptions, like {@link PackedTimecode#tryPack(FrameRateType, int)}
+     *
+     * @throws IllegalArgumentException Without stack trace, if the frame count is out of range
+     */
+    protected static void checkFrameCount(FrameRateType frameRateType, int frameCount) {
+        if (! frameRateType.isValidFrameCount(frameCount)) {
+            String message = frameCount < 0 ? FRAME_COUNT_LESS_0.getErrorMessage()
+                                            : FRAME_COUNT_GREATER_LIMIT.getErrorMessage() + " " +
+                                                    frameRateType.getFrameCountLimit();
+            throw TimecodeException.invalidArgument(message);
+        }
     }
 
-    protected void addition(Timecode timecode) throws TimecodeException {
-        frameCount += timecode.getFrameCount();
-        countUnits(frameCount);
+    /**
+     * Checks that the given values are valid with {@link FrameRateType#areValidValues(int, int, int, int)},
+     * the same check of the methods that don't throw exceptions, like
+     * {@link PackedTimecode#tryPack(FrameRateType, int, int, int, int)}
+     *
+     * @throws IllegalArgumentException Without stack trace, if the values are not valid
+     */
+    protected static void checkValues(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+        if (! frameRateType.areValidValues(hours, minutes, seconds, frames))
+            throw TimecodeException.invalidArgument(INVALID_TIMECODE.getErrorMessage() + " [" + hours + ", " +
+                                                            minutes + ", " + seconds + ", " + frames + "]");
+    }
+
+    private int units() {
+        int packedUnits = units;
+        if (packedUnits == TimecodeUnits.NOT_DERIVED) {
+            packedUnits = TimecodeUnits.fromFrameCount(frameRateType, frameCount);
+            units = packedUnits;
+        }
+        return packedUnits;
+    }
+
+    /**
+     * Creates the instance of the subclass with the result of an operation under zero,
+     * whose units can't be derived from its frame count
+     */
+    protected abstract TimecodeBase newInstance(int hours, int minutes, int seconds, int frames, int frameCount);
+
+    @Override
+    public final Timecode add(Timecode timecode) throws TimecodeException {
+        if (timecode.getFrameRateType() != frameRateType)
+            throw TimecodeException.stackless(INVALID_ADDITION);
 
-        if (frameCount >= getFrameCountLimit())
-            throw new TimecodeException(RESULT_GREATER_LIMIT);
+        int sum = frameCount + timecode.getFrameCount();
+        if (sum >= frameRateType.getFrameCountLimit())
+            throw TimecodeException.stackless(RESULT_GREATER_LIMIT);
+
+        return TimecodeFactory.createTimeCode(frameRateType, sum);
     }
 
-    protected void subtraction(Timecode timecode) throws TimecodeException {
-        frameCount -= timecode.getFrameCount();
-        if (frameCount > 0)
-            countUnits(frameCount);
+    @Override
+    public final Timecode subtract(Timecode timecode) throws TimecodeException {
+        if (timecode.getFrameRateType() != frameRateType)
+            throw TimecodeException.stackless(INVALID_SUBTRACTION);
+
+        int difference = frameCount - timecode.getFrameCount();
+        if (Math.abs(difference) >= frameRateType.getFrameCountLimit())
+            throw TimecodeException.stackless(RESULT_LESSER_LIMIT);
+
+        Timecode result;
+        if (difference > 0)
+            result = TimecodeFactory.createTimeCode(frameRateType, difference);
         else {
-            int oldHours = hours;
-            countUnits(getFrameCountLimit() + frameCount);    // positive number of frames
-            hours = oldHours - timecode.getHours();
+            int units = TimecodeUnits.underZero(frameRateType, difference);
+            result = newInstance(getHours() - timecode.getHours(), TimecodeUnits.minutes(units),
+                                 TimecodeUnits.seconds(units), TimecodeUnits.frames(units), difference);
         }
-
-        if (Math.abs(frameCount) >= getFrameCountLimit())
-            throw new TimecodeException(RESULT_LESSER_LIMIT);
+        return result;
     }
 
-    protected abstract int getFrameMax();
+    @Override
+    public final FrameRateType getFrameRateType() {
+        return frameRateType;
+    }
 
-    public abstract int getFrameCountLimit();
+    public final int getFrameCountLimit() {
+        return frameRateType.getFrameCountLimit();
+    }
 
     @Override
     public int hashCode() {
-        return Objects.hash(frames, seconds, minutes, hours, frameCount);
+        return Objects.hash(units(), frameCount);
     }
 
     @Override
     public boolean equals(Object obj) {
         boolean result;
-        if (obj instanceof TimecodeBase && ((TimecodeBase) obj).getFrames() == frames && ((TimecodeBase) obj)
-                .getSeconds() == seconds && ((TimecodeBase) obj).getMinutes() == minutes && ((TimecodeBase) obj)
-                .getHours() == hours && ((TimecodeBase) obj).getFrameCount() == frameCount) {
+        if (obj instanceof TimecodeBase && ((TimecodeBase) obj).frameRateType == frameRateType &&
+                ((TimecodeBase) obj).frameCount == frameCount && ((TimecodeBase) obj).units() == units()) {
             result = true;
         }
         else {
@@ -127,27 +206,27 @@ public abstract class TimecodeBase implements Timecode {
     }
 
     @Override
-    public int getFrames() {
-        return frames;
+    public final int getFrames() {
+        return TimecodeUnits.frames(units());
     }
 
     @Override
-    public int getSeconds() {
-        return seconds;
+    public final int getSeconds() {
+        return TimecodeUnits.seconds(units());
     }
 
     @Override
-    public int getMinutes() {
-        return minutes;
+    public final int getMinutes() {
+        return TimecodeUnits.minutes(units());
     }
 
     @Override
-    public int getHours() {
-        return hours;
+    public final int getHours() {
+        return TimecodeUnits.hours(units());
     }
 
     @Override
-    public int getFrameCount() {
+    public final int getFrameCount() {
         return frameCount;
     }
 
@@ -157,12 +236,34 @@ public abstract class TimecodeBase implements Timecode {
     }
 
     @Override
-    public String getStringRepresentation() {
-        String timecodeStringRepresentation = "";
-        timecodeStringRepresentation += String.format("%02d", hours) + ":";
-        timecodeStringRepresentation += String.format("%02d", minutes) + ":";
-        timecodeStringRepresentation += String.format("%02d", seconds) + ":";
-        timecodeStringRepresentation += String.format("%02d", frames);
-        return timecodeStringRepresentation;
+    public final String getStringRepresentation() {
+        String representation = stringRepresentation;
+        if (representation == null) {
+            representation = formatUnits();
+            stringRepresentation = representation;
+        }
+        return representation;
+    }
+
+    private String formatUnits() {
+        int hours = getHours();
+        int minutes = getMinutes();
+        int seconds = getSeconds();
+        int frames = getFrames();
+        int frameDigits = frameRateType.getFrameDigits();
+        char framesSeparator = frameRateType.getFramesSeparator();
+        String representation;
+        if (TimecodeFormat.fitsDigits(hours, minutes, seconds, frames, frameDigits)) {
+            char[] chars = new char[TimecodeFormat.MAX_LENGTH];
+            int length = TimecodeFormat.format(hours, minutes, seconds, frames, framesSeparator, frameDigits,
+                                               chars, 0);
+            representation = new String(chars, 0, length);
+        }
+        else {
+            // negative hours of a subtraction under zero
+            representation = String.format("%02d:%02d:%02d%c%0" + frameDigits + "d", hours, minutes, seconds,
+                                           framesSeparator, frames);
+        }
+        return representation;
     }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+
+/**
+ * Bulk conversions between arrays of frame counts and buffers of fixed width
+ * records with the string representation of the timecodes, hh:mm:ss:ff
+ * (or hh:mm:ss;ff on drop frame rates), one after the other without separation.
+ * On frame rates with three digit frames the records are hh:mm:ss:fff, see
+ * {@link #recordLength(FrameRateType)}.
+ *
+ * <p>The conversions are done in a loop over the arrays, without creating
+ * {@link Timecode} objects nor any other object per value.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeBatch {
+
+	/**
+	 * Length of each record on frame rates with two digit frames,
+	 * the length of the string representation of a timecode
+	 */
+	public static final int RECORD_LENGTH = TimecodeFormat.LENGTH;
+
+	private static final UnitsCounter UNITS_COUNTER = UnitsCounter.create();
+
+	private TimecodeBatch() {}
+
+	/**
+	 * Converts all the given frame counts to the hours, minutes, seconds and frames of their timecodes,
+	 * packed in an <tt>int</tt> each: <tt>hours &lt;&lt; 24 | minutes &lt;&lt; 16 | seconds &lt;&lt; 8 | frames</tt>.
+	 *
+	 * <p>When the runtime provides the <tt>jdk.incubator.vector</tt> module, the conversion is
+	 * vectorized with it. It can be disabled setting the <tt>timecode.vector</tt> system property
+	 * to <tt>false</tt>.</p>
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param units         The array where the packed units are written, from its beginning
+	 */
+	public static void countUnits(FrameRateType frameRateType, int[] frameCounts, int[] units) {
+		countUnits(frameRateType, frameCounts, 0, frameCounts.length, units, 0);
+	}
+
+	/**
+	 * Converts <tt>length</tt> frame counts, starting at <tt>from</tt>, to their packed units
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param from          The index of the first frame count to convert
+	 * @param length        The number of frame counts to convert
+	 * @param units         The array where the packed units are written
+	 * @param offset        The index of the array where the first packed units are written
+	 *
+	 * @see #countUnits(FrameRateType, int[], int[])
+	 */
+	public static void countUnits(FrameRateType frameRateType, int[] frameCounts, int from, int length, int[] units,
+			int offset) {
+		checkArgument(from >= 0 && length >= 0 && from + length <= frameCounts.length, "Invalid frame counts range");
+		checkArgument(offset >= 0 && offset + length <= units.length, "Invalid units range");
+		for (int i = from; i < from + length; i++)
+			TimecodeBase.checkFrameCount(frameRateType, frameCounts[i]);
+		UNITS_COUNTER.countUnits(frameRateType, frameCounts, from, length, units, offset);
+	}
+
+	/**
+	 * @return The length of each record of the given frame rate, {@link #RECORD_LENGTH}
+	 *         or one more on frame rates with three digit frames
+	 */
+	public static int recordLength(FrameRateType frameRateType) {
+		return frameRateType.getStringLength();
+	}
+
+	/**
+	 * Packs the units of a timecode like {@link #countUnits(FrameRateType, int[], int[])}, the
+	 * encoding of the units of the records files too. The hours of a valid timecode are below 24,
+	 * so the packed units are never negative.
+	 */
+	static int packUnits(int hours, int minutes, int seconds, int frames) {
+		return hours << 24 | minutes << 16 | seconds << 8 | frames;
+	}
+
+	/**
+	 * @return The hours of the given packed units, see {@link #countUnits(FrameRateType, int[], int[])}
+	 */
+	public static int hoursOf(int units) {
+		return units >>> 24;
+	}
+
+	public static int minutesOf(int units) {
+		return units >>> 16 & 0xFF;
+	}
+
+	public static int secondsOf(int units) {
+		return units >>> 8 & 0xFF;
+	}
+
+	public static int framesOf(int units) {
+		return units & 0xFF;
+	}
+
+	/**
+	 * Writes the records of all the given frame counts
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param records       The buffer where the records are written, from its beginning
+	 */
+	public static void format(FrameRateType frameRateType, int[] frameCounts, byte[] records) {
+		format(frameRateType, frameCounts, 0, frameCounts.length, records, 0);
+	}
+
+	/**
+	 * Writes the records of <tt>length</tt> frame counts, starting at <tt>from</tt>
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param from          The index of the first frame count to convert
+	 * @param length        The number of frame counts to convert
+	 * @param records       The buffer where the records are written
+	 * @param offset        The position in the buffer of the first record
+	 */
+	public static void format(FrameRateType frameRateType, int[] frameCounts, int from, int length, byte[] records,
+			int offset) {
+		int recordLength = recordLength(frameRateType);
+		checkRange(from, length, frameCounts.length, offset, recordLength, records.length);
+		char framesSeparator = frameRateType.getFramesSeparator();
+		int frameDigits = frameRateType.getFrameDigits();
+
+		for (int i = from; i < from + length; i++, offset += recordLength) {
+			int units = timecodeUnits(frameRateType, frameCounts[i]);
+			TimecodeFormat.format(TimecodeUnits.hours(units), TimecodeUnits.minutes(units),
+								  TimecodeUnits.seconds(units), TimecodeUnits.frames(units), framesSeparator,
+								  frameDigits, records, offset);
+		}
+	}
+
+	/**
+	 * Writes the records of all the given frame counts
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param records       The buffer where the records are written, from its beginning
+	 */
+	public static void format(FrameRateType frameRateType, int[] frameCounts, char[] records) {
+		format(frameRateType, frameCounts, 0, frameCounts.length, records, 0);
+	}
+
+	/**
+	 * Writes the records of <tt>length</tt> frame counts, starting at <tt>from</tt>
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param frameCounts   The frame counts to convert
+	 * @param from          The index of the first frame count to convert
+	 * @param length        The number of frame counts to convert
+	 * @param records       The buffer where the records are written
+	 * @param offset        The position in the buffer of the first record
+	 */
+	public static void format(FrameRateType frameRateType, int[] frameCounts, int from, int length, char[] records,
+			int offset) {
+		int recordLength = recordLength(frameRateType);
+		checkRange(from, length, frameCounts.length, offset, recordLength, records.length);
+		char framesSeparator = frameRateType.getFramesSeparator();
+		int frameDigits = frameRateType.getFrameDigits();
+
+		for (int i = from; i < from + length; i++, offset += recordLength) {
+			int units = timecodeUnits(frameRateType, frameCounts[i]);
+			TimecodeFormat.format(TimecodeUnits.hours(units), TimecodeUnits.minutes(units),
+								  TimecodeUnits.seconds(units), TimecodeUnits.frames(units), framesSeparator,
+								  frameDigits, records, offset);
+		}
+	}
+
+	/**
+	 * Parses records into the given array of frame counts, filling all of it
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param records       The buffer with the records, from its beginning
+	 * @param frameCounts   The array where the frame counts are written
+	 *
+	 * @throws TimecodeException If a record is not well formatted
+	 */
+	public static void parse(FrameRateType frameRateType, byte[] records, int[] frameCounts) throws TimecodeException {
+		parse(frameRateType, records, 0, frameCounts, 0, frameCounts.length);
+	}
+
+	/**
+	 * Parses <tt>length</tt> records into the given array of frame counts
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param records       The buffer with the records
+	 * @param offset        The position in the buffer of the first record
+	 * @param frameCounts   The array where the frame counts are written
+	 * @param from          The index of the first frame count written
+	 * @param length        The number of records to parse
+	 *
+	 * @throws TimecodeException If a record is not well formatted
+	 */
+	public static void parse(FrameRateType frameRateType, byte[] records, int offset, int[] frameCounts, int from,
+			int length) throws TimecodeException {
+		int recordLength = recordLength(frameRateType);
+		checkRange(from, length, frameCounts.length, offset, recordLength, records.length);
+		boolean threeDigitFrames = frameRateType.getFrameDigits() == 3;
+
+		for (int i = from; i < from + length; i++, offset += recordLength) {
+			int hours = twoDigits(records[offset], records[offset + 1]);
+			int minutes = twoDigits(records[offset + 3], records[offset + 4]);
+			int seconds = twoDigits(records[offset + 6], records[offset + 7]);
+			int frames = threeDigitFrames ? threeDigits(records[offset + 9], records[offset + 10], records[offset + 11])
+										  : twoDigits(records[offset + 9], records[offset + 10]);
+			frameCounts[i] = frameCount(frameRateType, hours, minutes, seconds, frames, records[offset + 2],
+										records[offset + 5], records[offset + 8]);
+		}
+	}
+
+	/**
+	 * Parses records into the given array of frame counts, filling all of it
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param records       The buffer with the records, from its beginning
+	 * @param frameCounts   The array where the frame counts are written
+	 *
+	 * @throws TimecodeException If a record is not well formatted
+	 */
+	public static void parse(FrameRateType frameRateType, char[] records, int[] frameCounts) throws TimecodeException {
+		parse(frameRateType, records, 0, frameCounts, 0, frameCounts.length);
+	}
+
+	/**
+	 * Parses <tt>length</tt> records into the given array of frame counts
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param records       The buffer with the records
+	 * @param offset        The position in the buffer of the first record
+	 * @param frameCounts   The array where the frame counts are written
+	 * @param from          The index of the first frame count written
+	 * @param length        The number of records to parse
+	 *
+	 * @throws TimecodeException If a record is not well formatted
+	 */
+	public static void parse(FrameRateType frameRateType, char[] records, int offset, int[] frameCounts, int from,
+			int length) throws TimecodeException {
+		int recordLength = recordLength(frameRateType);
+		checkRange(from, length, frameCounts.length, offset, recordLength, records.length);
+		boolean threeDigitFrames = frameRateType.getFrameDigits() == 3;
+
+		for (int i = from; i < from + length; i++, offset += recordLength) {
+			int hours = twoDigits(records[offset], records[offset + 1]);
+			int minutes = twoDigits(records[offset + 3], records[offset + 4]);
+			int seconds = twoDigits(records[offset + 6], records[offset + 7]);
+			int frames = threeDigitFrames ? threeDigits(records[offset + 9], records[offset + 10], records[offset + 11])
+										  : twoDigits(records[offset + 9], records[offset + 10]);
+			frameCounts[i] = frameCount(frameRateType, hours, minutes, seconds, frames, records[offset + 2],
+										records[offset + 5], records[offset + 8]);
+		}
+	}
+
+	private static void checkRange(int from, int length, int frameCountsLength, int offset, int recordLength,
+			int recordsLength) {
+		checkArgument(from >= 0 && length >= 0 && from + length <= frameCountsLength, "Invalid frame counts range");
+		checkArgument(offset >= 0 && offset + (long) length * recordLength <= recordsLength, "Invalid records range");
+	}
+
+	/**
+	 * @return The units of the given frame count, with the offset of the hours of {@link TimecodeUnits}
+	 */
+	private static int timecodeUnits(FrameRateType frameRateType, int frameCount) {
+		TimecodeBase.checkFrameCount(frameRateType, frameCount);
+		return TimecodeUnits.fromFrameCount(frameRateType, frameCount);
+	}
+
+	/**
+	 * Validates the values and the separators read from a record, either of bytes or characters
+	 *
+	 * @return The frame count of the record
+	 */
+	private static int frameCount(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames,
+			int firstSeparator, int secondSeparator, int framesSeparator) throws TimecodeException {
+		boolean validSeparators = firstSeparator == ':' && secondSeparator == ':' &&
+				(framesSeparator == ':' || framesSeparator == ';');
+		if ((hours | minutes | seconds | frames) < 0 || ! validSeparators)
+			throw TimecodeException.stackless(INVALID_INPUT_FORMAT);
+		TimecodeBase.checkValues(frameRateType, hours, minutes, seconds, frames);
+		return frameRateType.countFrames(hours, minutes, seconds, frames);
+	}
+
+	/**
+	 * @return The value of the two digits, or a negative number if any of them is not a digit
+	 */
+	private static int twoDigits(int tens, int units) {
+		int tensValue = tens - '0';
+		int unitsValue = units - '0';
+		return (tensValue | unitsValue | (9 - tensValue) | (9 - unitsValue)) < 0 ? - 1 : tensValue * 10 + unitsValue;
+	}
+
+	/**
+	 * @return The value of the three digits, or a negative number if any of them is not a digit
+	 */
+	private static int threeDigits(int hundreds, int tens, int units) {
+		int hundredsValue = hundreds - '0';
+		int tensAndUnitsValue = twoDigits(tens, units);
+		return (hundredsValue | tensAndUnitsValue | (9 - hundredsValue)) < 0 ? - 1
+																			  : hundredsValue * 100 + tensAndUnitsValue;
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.util.concurrent.atomic.*;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Bounded cache of shared {@link Timecode} instances by {@link FrameRateType} and frame count,
+ * in front of {@link TimecodeFactory#createTimeCode(FrameRateType, int)}.
+ *
+ * <p>The timecodes are immutable, so the cached instances are shared between all the callers.
+ * Lookups of cached timecodes don't lock; when the cache is full, a new timecode replaces one
+ * that was not requested since the last turn of the CLOCK hand.</p>
+ *
+ * <p>The entries are in an open addressing table keyed by the ordinal of the frame rate and the
+ * frame count packed in a <tt>long</tt>, so lookups don't box their key. The table is at least
+ * twice the capacity and changed only while holding the lock of the cache. A lookup concurrent
+ * with the eviction of another entry may miss a cached timecode that is being moved within the
+ * table; it then finds it again holding the lock.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeCache {
+
+	/**
+	 * Maximum capacity, for which the table length is still an <tt>int</tt> power of two
+	 */
+	private static final int MAX_CAPACITY = 1 << 29;
+
+	private final AtomicReferenceArray<Entry> table;
+	private final int mask;
+	private final int shift;
+	private final Entry[] clock;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private int size;
+	private int hand;
+
+	/**
+	 * Creates a cache that holds up to the given number of timecodes
+	 *
+	 * @param capacity The maximum number of timecodes in the cache
+	 */
+	public TimecodeCache(int capacity) {
+		checkArgument(capacity > 0, "Capacity must be greater than zero");
+		checkArgument(capacity <= MAX_CAPACITY, "Capacity must be at most %s", MAX_CAPACITY);
+		int tableLength = Integer.highestOneBit(capacity * 2 - 1) << 1;
+		table = new AtomicReferenceArray<>(tableLength);
+		mask = tableLength - 1;
+		shift = Long.numberOfLeadingZeros(tableLength) + 1;
+		clock = new Entry[capacity];
+	}
+
+	/**
+	 * Returns the shared {@link Timecode} of the given frame rate and frame count,
+	 * creating it if it's not in the cache
+	 *
+	 * @param type       The frame rate of the timecode
+	 * @param frameCount The frame count of the timecode
+	 *
+	 * @return The shared timecode
+	 *
+	 * @throws IllegalArgumentException If the frame count is not valid for the frame rate
+	 */
+	public Timecode get(FrameRateType type, int frameCount) {
+		long key = key(type, frameCount);
+		Entry entry = find(key);
+		Timecode timecode;
+		if (entry != null) {
+			hits.increment();
+			entry.reference();
+			timecode = entry.timecode;
+		}
+		else
+			timecode = admit(key, type, frameCount);
+		return timecode;
+	}
+
+	private synchronized Timecode admit(long key, FrameRateType type, int frameCount) {
+		Entry entry = find(key);
+		if (entry == null) {    // not admitted by another thread meanwhile
+			misses.increment();
+			Timecode timecode = TimecodeFactory.createTimeCode(type, frameCount);
+			entry = new Entry(key, timecode);
+			if (size < clock.length)
+				clock[size++] = entry;
+			else {
+				int victim = nextVictim();
+				remove(clock[victim].key);
+				clock[victim] = entry;
+			}
+			insert(entry);
+		}
+		else {
+			hits.increment();
+			entry.reference();
+		}
+		return entry.timecode;
+	}
+
+	/**
+	 * Advances the CLOCK hand, giving a second chance to the referenced entries,
+	 * until it finds one that was not referenced since the last turn
+	 */
+	private int nextVictim() {
+		while (clock[hand].referenced) {
+			clock[hand].referenced = false;
+			hand = (hand + 1) % clock.length;
+		}
+		int victim = hand;
+		hand = (hand + 1) % clock.length;
+		return victim;
+	}
+
+	/**
+	 * Probes the table from the home slot of the given key up to the first empty slot
+	 */
+	private Entry find(long key) {
+		int slot = homeSlot(key);
+		Entry entry = table.get(slot);
+		for (int probes = 0; entry != null && entry.key != key && probes < mask; probes++) {
+			slot = slot + 1 & mask;
+			entry = table.get(slot);
+		}
+		return entry != null && entry.key == key ? entry : null;
+	}
+
+	private void insert(Entry entry) {
+		int slot = homeSlot(entry.key);
+		while (table.get(slot) != null)
+			slot = slot + 1 & mask;
+		table.set(slot, entry);
+	}
+
+	/**
+	 * Removes the entry of the given key, moving back the following entries of the
+	 * probe sequence that can't be reached anymore from their home slot
+	 */
+	private void remove(long key) {
+		int slot = homeSlot(key);
+		while (table.get(slot).key != key)
+			slot = slot + 1 & mask;
+
+		int next = slot + 1 & mask;
+		Entry entry = table.get(next);
+		while (entry != null) {
+			int home = homeSlot(entry.key);
+			// the entry is moved back unless its home slot is cyclically after the emptied slot
+			if ((next - home & mask) >= (next - slot & mask)) {
+				table.set(slot, entry);
+				slot = next;
+			}
+			next = next + 1 & mask;
+			entry = table.get(next);
+		}
+		table.set(slot, null);
+	}
+
+	private int homeSlot(long key) {
+		return (int) (key * 0x9E3779B97F4A7C15L >>> shift);
+	}
+
+	private static long key(FrameRateType type, int frameCount) {
+		return (long) type.ordinal() << 32 | frameCount & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Removes all the timecodes of the cache. The hit and miss counters are not reset.
+	 */
+	public synchronized void clear() {
+		for (int i = 0; i <= mask; i++)
+			table.set(i, null);
+		for (int i = 0; i < size; i++)
+			clock[i] = null;
+		size = 0;
+		hand = 0;
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return clock.length;
+	}
+
+	private static final class Entry {
+
+		private final long key;
+		private final Timecode timecode;
+		private volatile boolean referenced;
+
+		private Entry(long key, Timecode timecode) {
+			this.key = key;
+			this.timecode = timecode;
+		}
+
+		private void reference() {
+			if (! referenced)    // avoids writing to the shared entry on every hit
+				referenced = true;
+		}
+	}
+}
@@ -24,20 +24,85 @@ package com.transgressoft.timecode;
  */
 public class TimecodeException extends Exception {
 
+	/**
+	 * Preallocated instances without stack trace, by the ordinal of their {@link ErrorCase}
+	 */
+	private static final TimecodeException[] STACKLESS_EXCEPTIONS = new TimecodeException[ErrorCase.values().length];
+
+	static {
+		for (ErrorCase errorCase : ErrorCase.values())
+			STACKLESS_EXCEPTIONS[errorCase.ordinal()] = new TimecodeException(errorCase, false);
+	}
+
+	private final ErrorCase errorCase;
+
 	public TimecodeException() {
 		super();
+		errorCase = null;
 	}
 
 	public TimecodeException(ErrorCase errorCase) {
 		super(errorCase.getErrorMessage());
+		this.errorCase = errorCase;
 	}
 
 	public TimecodeException(Throwable cause) {
 		super(cause);
+		errorCase = null;
 	}
 
 	public TimecodeException(ErrorCase errorCase, Throwable cause) {
 		super(errorCase.getErrorMessage(), cause);
+		this.errorCase = errorCase;
+	}
+
+	private TimecodeException(ErrorCase errorCase, boolean writableStackTrace) {
+		super(errorCase.getErrorMessage(), null, false, writableStackTrace);
+		this.errorCase = errorCase;
+	}
+
+	/**
+	 * Returns the preallocated exception of the given <tt>ErrorCase</tt>, which has neither
+	 * stack trace nor suppressed exceptions, so it's cheap to throw on invalid input.
+	 *
+	 * @param errorCase The error case
+	 *
+	 * @return The shared exception of the error case
+	 */
+	public static TimecodeException stackless(ErrorCase errorCase) {
+		return STACKLESS_EXCEPTIONS[errorCase.ordinal()];
+	}
+
+	/**
+	 * Creates an <tt>IllegalArgumentException</tt> without stack trace, thrown by the factory methods
+	 * of the timecodes on invalid values, which have always thrown that type of exception, so that
+	 * rejecting them is as cheap as with the {@link #stackless(ErrorCase)} instances.
+	 *
+	 * @param message The message of the exception
+	 *
+	 * @return The exception
+	 */
+	static IllegalArgumentException invalidArgument(String message) {
+		return new StacklessIllegalArgumentException(message);
+	}
+
+	/**
+	 * @return The error case of the exception, or <tt>null</tt> if it was created without one
+	 */
+	public ErrorCase getErrorCase() {
+		return errorCase;
+	}
+
+	private static final class StacklessIllegalArgumentException extends IllegalArgumentException {
+
+		private StacklessIllegalArgumentException(String message) {
+			super(message);
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
 	}
 
 	public enum ErrorCase {
@@ -49,7 +114,12 @@ public class TimecodeException extends Exception {
 		INVALID_ADDITION("Addition operation is only valid between instances of the same Timecode class"),
 		INVALID_SUBTRACTION("Subtract operation is only valid between instances of the same Timecode class"),
 		RESULT_GREATER_LIMIT("Result is greater than limit"),
-		RESULT_LESSER_LIMIT("Result value is lesser than limit");
+		RESULT_LESSER_LIMIT("Result value is lesser than limit"),
+		INVALID_LINE_FORMAT("Invalid line arguments. Should be <frame_rate> <value>"),
+		INVALID_CONVERSION("Conversion is only valid from timecodes of the source frame rate"),
+		INVALID_EDL_LINE("Invalid EDL line. Events should be <event> <reel> <channels> <transition> [<duration>] " +
+								 "<source_in> <source_out> <record_in> <record_out>"),
+		MIXED_FRAME_RATES("Timecode records files can only have timecodes of a single frame rate");
 
 		private String errorMessage;
 
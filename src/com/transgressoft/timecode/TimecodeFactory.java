@@ -21,48 +21,69 @@ import com.transgressoft.timecode.fps24.*;
 import com.transgressoft.timecode.fps25.*;
 import com.transgressoft.timecode.fps30.*;
 
+import static com.transgressoft.timecode.FrameRateType.*;
+
 /**
- * Abstract factory class of creation of {@link Timecode} objects.
+ * Abstract factory class of creation of {@link Timecode} objects. The frame rates
+ * without a factory of their own create {@link GenericTimecode} objects.
  *
  * @author Octavio Calleya
  * @version 1.0
  */
 public abstract class TimecodeFactory {
 
-	private static Fps25TimecodeFactory fps25TimecodeFactory = new Fps25TimecodeFactory();
-	private static Df30TimecodeFactory df30TimecodeFactory = new Df30TimecodeFactory();
-	private static Fps24TimecodeFactory fps24TimecodeFactory = new Fps24TimecodeFactory();
-	private static Fps30TimecodeFactory fps30TimecodeFactory = new Fps30TimecodeFactory();
-
+	/**
+	 * Creates a timecode given by its hours, minutes, seconds and frames. The timecodes are
+	 * created by the static methods of their classes, not by the factory instances, so that
+	 * the call is inlined whatever the frame rate is.
+	 */
 	public static Timecode createTimeCode(FrameRateType type, int hours, int minutes, int seconds, int frames) {
-		TimecodeFactory timecodeFactory = chooseFactory(type);
-		return timecodeFactory.createTimeCode(hours, minutes, seconds, frames);
-	}
-
-	private static TimecodeFactory chooseFactory(FrameRateType type) {
-		TimecodeFactory timecodeFactory = null;
-		switch (type) {
-			case FPS24:
-				timecodeFactory = fps24TimecodeFactory;
+		Timecode timecode;
+		switch (type.ordinal()) {
+			case FPS24_ORDINAL:
+				timecode = Fps24Timecode.of(hours, minutes, seconds, frames);
 				break;
-			case FPS25:
-				timecodeFactory = fps25TimecodeFactory;
+			case FPS25_ORDINAL:
+				timecode = Fps25Timecode.of(hours, minutes, seconds, frames);
 				break;
-			case FPS30:
-				timecodeFactory = fps30TimecodeFactory;
+			case FPS30_ORDINAL:
+				timecode = Fps30Timecode.of(hours, minutes, seconds, frames);
 				break;
-			case DF30:
-				timecodeFactory = df30TimecodeFactory;
+			case DF30_ORDINAL:
+				timecode = Df30Timecode.of(hours, minutes, seconds, frames);
 				break;
+			default:
+				timecode = GenericTimecode.of(type, hours, minutes, seconds, frames);
 		}
-		return timecodeFactory;
+		return timecode;
 	}
 
 	public abstract Timecode createTimeCode(int hours, int minutes, int seconds, int frames);
 
+	/**
+	 * Creates a timecode given by its frame count
+	 *
+	 * @see #createTimeCode(FrameRateType, int, int, int, int)
+	 */
 	public static Timecode createTimeCode(FrameRateType type, int numberOfFrames) {
-		TimecodeFactory timecodeFactory = chooseFactory(type);
-		return timecodeFactory.createTimeCode(numberOfFrames);
+		Timecode timecode;
+		switch (type.ordinal()) {
+			case FPS24_ORDINAL:
+				timecode = Fps24Timecode.of(numberOfFrames);
+				break;
+			case FPS25_ORDINAL:
+				timecode = Fps25Timecode.of(numberOfFrames);
+				break;
+			case FPS30_ORDINAL:
+				timecode = Fps30Timecode.of(numberOfFrames);
+				break;
+			case DF30_ORDINAL:
+				timecode = Df30Timecode.of(numberOfFrames);
+				break;
+			default:
+				timecode = GenericTimecode.of(type, numberOfFrames);
+		}
+		return timecode;
 	}
 
 	public abstract Timecode createTimeCode(int frameCount);
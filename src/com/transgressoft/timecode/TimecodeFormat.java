@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Writes the string representation of timecodes, hh:mm:ss:ff, or hh:mm:ss:fff
+ * on frame rates with three digit frames, into arrays
+ * of characters or bytes using a precomputed table of pairs of digits,
+ * instead of formatting each number with <tt>String.format</tt>.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class TimecodeFormat {
+
+	/**
+	 * Length of the string representation of a timecode with two digit frames
+	 */
+	static final int LENGTH = 11;
+
+	/**
+	 * Length of the string representation of a timecode with three digit frames
+	 */
+	static final int MAX_LENGTH = 12;
+
+	/**
+	 * The two digits of every number from 0 to 99, one after another
+	 */
+	private static final char[] DIGIT_PAIRS = new char[200];
+
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_PAIRS[i * 2] = (char) ('0' + i / 10);
+			DIGIT_PAIRS[i * 2 + 1] = (char) ('0' + i % 10);
+		}
+	}
+
+	private TimecodeFormat() {}
+
+	/**
+	 * @return <tt>true</tt> if all the units can be written with two digits, or the frames with
+	 *         the given number of digits
+	 */
+	static boolean fitsDigits(int hours, int minutes, int seconds, int frames, int frameDigits) {
+		return (hours | minutes | seconds | frames) >= 0 && hours < 100 && minutes < 100 && seconds < 100 &&
+				frames < (frameDigits == 3 ? 1000 : 100);
+	}
+
+	/**
+	 * Writes the units of a timecode as hh:mm:ss:ff, each one between 0 and 99,
+	 * or as hh:mm:ss:fff if the frames have three digits
+	 *
+	 * @return The position after the last character written
+	 */
+	static int format(int hours, int minutes, int seconds, int frames, char framesSeparator, int frameDigits,
+			char[] destination, int offset) {
+		twoDigits(hours, destination, offset);
+		destination[offset + 2] = ':';
+		twoDigits(minutes, destination, offset + 3);
+		destination[offset + 5] = ':';
+		twoDigits(seconds, destination, offset + 6);
+		destination[offset + 8] = framesSeparator;
+		int framesOffset = offset + 9;
+		if (frameDigits == 3) {
+			destination[framesOffset++] = (char) ('0' + frames / 100);
+			frames %= 100;
+		}
+		twoDigits(frames, destination, framesOffset);
+		return framesOffset + 2;
+	}
+
+	/**
+	 * Writes the units of a timecode as hh:mm:ss:ff, each one between 0 and 99,
+	 * or as hh:mm:ss:fff if the frames have three digits
+	 *
+	 * @return The position after the last byte written
+	 */
+	static int format(int hours, int minutes, int seconds, int frames, char framesSeparator, int frameDigits,
+			byte[] destination, int offset) {
+		twoDigits(hours, destination, offset);
+		destination[offset + 2] = ':';
+		twoDigits(minutes, destination, offset + 3);
+		destination[offset + 5] = ':';
+		twoDigits(seconds, destination, offset + 6);
+		destination[offset + 8] = (byte) framesSeparator;
+		int framesOffset = offset + 9;
+		if (frameDigits == 3) {
+			destination[framesOffset++] = (byte) ('0' + frames / 100);
+			frames %= 100;
+		}
+		twoDigits(frames, destination, framesOffset);
+		return framesOffset + 2;
+	}
+
+	static void twoDigits(int value, char[] destination, int offset) {
+		destination[offset] = DIGIT_PAIRS[value * 2];
+		destination[offset + 1] = DIGIT_PAIRS[value * 2 + 1];
+	}
+
+	static void twoDigits(int value, byte[] destination, int offset) {
+		destination[offset] = (byte) DIGIT_PAIRS[value * 2];
+		destination[offset + 1] = (byte) DIGIT_PAIRS[value * 2 + 1];
+	}
+}
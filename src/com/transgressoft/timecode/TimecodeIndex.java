@@ -0,0 +1,280 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Sorted index of the frame counts of timecodes of a frame rate, like the markers of a timeline,
+ * that finds the timecodes before, after and nearest to a frame by binary search. The frame counts
+ * are stored in an <tt>int</tt> array, without an object per timecode, and can repeat.
+ *
+ * <p>With the {@link Layout#EYTZINGER} layout the frame counts are also stored in the order of a
+ * breadth first traversal of the binary search tree, so the first steps of every search read the
+ * same few cache lines, and the next ones are in a single array instead of spread along it.</p>
+ *
+ * <p>The index is immutable, so it can be queried from several threads.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeIndex {
+
+	/**
+	 * Number of frame counts from which they are sorted in parallel
+	 */
+	static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+	private final FrameRateType frameRateType;
+	private final int[] sortedFrameCounts;
+
+	/**
+	 * The frame counts in the Eytzinger layout, from the position 1, or <tt>null</tt> with the sorted layout
+	 */
+	private final int[] eytzingerFrameCounts;
+
+	/**
+	 * The rank of the frame count of every position of the Eytzinger layout
+	 */
+	private final int[] eytzingerRanks;
+
+	/**
+	 * Layout of the frame counts searched by the queries
+	 */
+	public enum Layout {
+
+		/**
+		 * The frame counts in ascending order
+		 */
+		SORTED,
+
+		/**
+		 * The frame counts in the order of a breadth first traversal of the binary search tree,
+		 * the root first, then its two children, then the four of the next level and so on
+		 */
+		EYTZINGER
+	}
+
+	private TimecodeIndex(FrameRateType frameRateType, int[] sortedFrameCounts, Layout layout) {
+		this.frameRateType = frameRateType;
+		this.sortedFrameCounts = sortedFrameCounts;
+		if (layout == Layout.EYTZINGER) {
+			eytzingerFrameCounts = new int[sortedFrameCounts.length + 1];
+			eytzingerRanks = new int[sortedFrameCounts.length + 1];
+			fillEytzinger(0, 1);
+		}
+		else {
+			eytzingerFrameCounts = null;
+			eytzingerRanks = null;
+		}
+	}
+
+	/**
+	 * Builds the index of the given frame counts, with the {@link Layout#SORTED} layout
+	 *
+	 * @param frameRateType The frame rate of the frame counts
+	 * @param frameCounts   The frame counts, in any order
+	 *
+	 * @return The index
+	 *
+	 * @throws IllegalArgumentException If a frame count is out of the limits of the frame rate
+	 */
+	public static TimecodeIndex of(FrameRateType frameRateType, int[] frameCounts) {
+		return of(frameRateType, frameCounts, Layout.SORTED);
+	}
+
+	/**
+	 * Builds the index of the given frame counts
+	 *
+	 * @param frameRateType The frame rate of the frame counts
+	 * @param frameCounts   The frame counts, in any order
+	 * @param layout        The layout of the frame counts searched by the queries
+	 *
+	 * @return The index
+	 *
+	 * @throws IllegalArgumentException If a frame count is out of the limits of the frame rate
+	 */
+	public static TimecodeIndex of(FrameRateType frameRateType, int[] frameCounts, Layout layout) {
+		int frameCountLimit = frameRateType.getFrameCountLimit();
+		for (int frameCount : frameCounts)
+			checkArgument(frameCount >= 0 && frameCount < frameCountLimit, "Invalid frame count %s", frameCount);
+		int[] sortedFrameCounts = frameCounts.clone();
+		if (sortedFrameCounts.length >= PARALLEL_SORT_THRESHOLD)
+			Arrays.parallelSort(sortedFrameCounts);
+		else
+			Arrays.sort(sortedFrameCounts);
+		return new TimecodeIndex(frameRateType, sortedFrameCounts, layout);
+	}
+
+	/**
+	 * Builds the index of the frame counts of the given timecodes
+	 *
+	 * @param frameRateType The frame rate of the timecodes
+	 * @param timecodes     The timecodes, in any order
+	 * @param layout        The layout of the frame counts searched by the queries
+	 *
+	 * @return The index
+	 *
+	 * @throws IllegalArgumentException If a timecode is not of the given frame rate
+	 */
+	public static TimecodeIndex of(FrameRateType frameRateType, Collection<? extends Timecode> timecodes,
+			Layout layout) {
+		int[] frameCounts = new int[timecodes.size()];
+		int i = 0;
+		for (Timecode timecode : timecodes)
+			frameCounts[i++] = frameCountOf(frameRateType, timecode);
+		return of(frameRateType, frameCounts, layout);
+	}
+
+	private static int frameCountOf(FrameRateType frameRateType, Timecode timecode) {
+		checkArgument(timecode.getFrameRateType() == frameRateType, "Invalid frame rate %s",
+					  timecode.getFrameRateType());
+		return timecode.getFrameCount();
+	}
+
+	/**
+	 * Fills the subtree of the given position of the Eytzinger layout with the
+	 * sorted frame counts from the given rank, in order
+	 *
+	 * @return The rank after the last frame count of the subtree
+	 */
+	private int fillEytzinger(int rank, int position) {
+		if (position < eytzingerFrameCounts.length) {
+			rank = fillEytzinger(rank, 2 * position);
+			eytzingerFrameCounts[position] = sortedFrameCounts[rank];
+			eytzingerRanks[position] = rank++;
+			rank = fillEytzinger(rank, 2 * position + 1);
+		}
+		return rank;
+	}
+
+	/**
+	 * @return The number of frame counts lesser than the given one, that is the position
+	 *         of the first frame count greater or equal than it in ascending order
+	 */
+	public int rank(int frameCount) {
+		return eytzingerFrameCounts == null ? sortedRank(frameCount) : eytzingerRank(frameCount);
+	}
+
+	private int sortedRank(int frameCount) {
+		int base = 0;
+		int length = sortedFrameCounts.length;
+		if (length > 0) {
+			while (length > 1) {
+				int half = length >>> 1;
+				base = sortedFrameCounts[base + half] < frameCount ? base + half : base;
+				length -= half;
+			}
+			base += sortedFrameCounts[base] < frameCount ? 1 : 0;
+		}
+		return base;
+	}
+
+	/**
+	 * Descends the tree to a leaf, to the right of the frame counts lesser than the given one.
+	 * The first frame count greater or equal is the last node from which it went to the left,
+	 * so the ones and the zero after them of the path, at the right of the position, are removed.
+	 */
+	private int eytzingerRank(int frameCount) {
+		int position = 1;
+		while (position < eytzingerFrameCounts.length)
+			position = 2 * position + (eytzingerFrameCounts[position] < frameCount ? 1 : 0);
+		position >>>= Integer.numberOfTrailingZeros(~ position) + 1;
+		return position == 0 ? sortedFrameCounts.length : eytzingerRanks[position];
+	}
+
+	/**
+	 * @return The greatest frame count lesser or equal than the given one, or -1 if there is none
+	 */
+	public int floor(int frameCount) {
+		int rank = rank(frameCount);
+		int floor;
+		if (rank < sortedFrameCounts.length && sortedFrameCounts[rank] == frameCount)
+			floor = frameCount;
+		else
+			floor = rank > 0 ? sortedFrameCounts[rank - 1] : - 1;
+		return floor;
+	}
+
+	/**
+	 * @return The least frame count greater or equal than the given one, or -1 if there is none
+	 */
+	public int ceiling(int frameCount) {
+		int rank = rank(frameCount);
+		return rank < sortedFrameCounts.length ? sortedFrameCounts[rank] : - 1;
+	}
+
+	/**
+	 * @return The frame count nearest to the given one, the lesser one if there are two at
+	 *         the same distance, or -1 if the index is empty
+	 */
+	public int nearest(int frameCount) {
+		int rank = rank(frameCount);
+		int nearest;
+		if (rank == sortedFrameCounts.length)
+			nearest = rank > 0 ? sortedFrameCounts[rank - 1] : - 1;
+		else if (rank == 0)
+			nearest = sortedFrameCounts[0];
+		else {
+			int floor = sortedFrameCounts[rank - 1];
+			int ceiling = sortedFrameCounts[rank];
+			nearest = frameCount - floor <= ceiling - frameCount ? floor : ceiling;
+		}
+		return nearest;
+	}
+
+	/**
+	 * @return The timecode nearest to the given one, the earlier one if there are two at
+	 *         the same distance, or <tt>null</tt> if the index is empty
+	 *
+	 * @throws IllegalArgumentException If the timecode is not of the frame rate of the index
+	 */
+	public Timecode nearest(Timecode timecode) {
+		int nearest = nearest(frameCountOf(frameRateType, timecode));
+		return nearest < 0 ? null : TimecodeFactory.createTimeCode(frameRateType, nearest);
+	}
+
+	/**
+	 * @return The frame count of the given rank, the position in ascending order
+	 */
+	public int get(int rank) {
+		checkArgument(rank >= 0 && rank < sortedFrameCounts.length, "Invalid rank %s", rank);
+		return sortedFrameCounts[rank];
+	}
+
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	public Layout getLayout() {
+		return eytzingerFrameCounts == null ? Layout.SORTED : Layout.EYTZINGER;
+	}
+
+	/**
+	 * @return The number of frame counts of the index
+	 */
+	public int size() {
+		return sortedFrameCounts.length;
+	}
+
+	@Override
+	public String toString() {
+		return "TimecodeIndex[" + frameRateType + ", " + getLayout() + ", " + sortedFrameCounts.length + " frame counts]";
+	}
+}
@@ -27,7 +27,7 @@ import static com.transgressoft.timecode.TimecodeException.ErrorCase.INVALID_INP
 public enum TimecodeInputType {
 
 	/**
-	 * Timecode value as hours:minutes:seconds:frames
+	 * Timecode value as hours:minutes:seconds:frames, with two or three digit frames
 	 */
 	UNITS_INPUT_TYPE,
 
@@ -36,6 +36,36 @@ public enum TimecodeInputType {
 	 */
 	FRAME_COUNT_INPUT_TYPE;
 
+	/**
+	 * Layout of a value that is not a timecode
+	 */
+	static final int INVALID_LAYOUT = - 1;
+
+	/**
+	 * Layout of a value as hh:mm:ss:ff or hh:mm:ss:fff, with the fields at the offsets 0, 3, 6 and 9
+	 */
+	static final int UNITS_LAYOUT = 9 << 24 | 6 << 16 | 3 << 8;
+
+	/**
+	 * Layout of a value as a frame count, with a single field at the offset 0
+	 */
+	static final int FRAME_COUNT_LAYOUT = 0;
+
+	static final int HOURS_FIELD = 0;
+	static final int MINUTES_FIELD = 1;
+	static final int SECONDS_FIELD = 2;
+	static final int FRAMES_FIELD = 3;
+
+	/**
+	 * Length of a value expressed as hh:mm:ss:ff
+	 */
+	static final int UNITS_LENGTH = 11;
+
+	/**
+	 * Length of a value expressed as hh:mm:ss:fff, on frame rates with three digit frames
+	 */
+	static final int MAX_UNITS_LENGTH = 12;
+
 	/**
 	 * Parses the given <tt>String</tt> to a <tt>TimecodeInputType</tt> that
 	 * matches the string format of the timecode value
@@ -47,16 +77,71 @@ public enum TimecodeInputType {
 	 * @throws TimecodeException if the given <tt>String</tt> has not a valid format
 	 */
 	public static TimecodeInputType fromString(String string) throws TimecodeException {
-		TimecodeInputType timecodeInputType = null;
+		return fromLayout(scan(string));
+	}
 
-		if (string.matches("\\d{2}:\\d{2}:\\d{2}[;:]\\d{2}"))
+	/**
+	 * @param layout The layout of a value returned by {@link #scan(CharSequence)}
+	 *
+	 * @return The TimecodeInputType of the layout
+	 *
+	 * @throws TimecodeException if the layout is {@link #INVALID_LAYOUT}
+	 */
+	static TimecodeInputType fromLayout(int layout) throws TimecodeException {
+		TimecodeInputType timecodeInputType;
+		if (layout == UNITS_LAYOUT)
 			timecodeInputType = UNITS_INPUT_TYPE;
-		else if (string.matches("\\d+"))
+		else if (layout == FRAME_COUNT_LAYOUT)
 			timecodeInputType = FRAME_COUNT_INPUT_TYPE;
+		else
+			throw TimecodeException.stackless(INVALID_INPUT_FORMAT);
+		return timecodeInputType;
+	}
+
+	/**
+	 * Classifies the given value in a single pass over its characters, without allocating.
+	 * The value is either hh:mm:ss:ff or hh:mm:ss:fff, where the separator of the frames can
+	 * be ';' as well, or a frame count of one or more digits.
+	 *
+	 * @param value The value of a timecode with uncertain format
+	 *
+	 * @return {@link #UNITS_LAYOUT}, {@link #FRAME_COUNT_LAYOUT} or {@link #INVALID_LAYOUT}, from which
+	 *         the offsets of the fields are obtained with {@link #fieldOffset(int, int)}
+	 */
+	static int scan(CharSequence value) {
+		int length = value.length();
+		int separators = 0;
+		int layout = length == 0 ? INVALID_LAYOUT : FRAME_COUNT_LAYOUT;
 
-		if (timecodeInputType == null)
-			throw new TimecodeException(INVALID_INPUT_FORMAT);
+		for (int i = 0; i < length && layout != INVALID_LAYOUT; i++) {
+			char character = value.charAt(i);
+			if (i == separators * 3 + 2 && isSeparator(character, separators))
+				separators++;
+			else if (character < '0' || character > '9')
+				layout = INVALID_LAYOUT;
+		}
 
-		return timecodeInputType;
+		if (layout != INVALID_LAYOUT && separators != 0)
+			layout = separators == 3 && (length == UNITS_LENGTH || length == MAX_UNITS_LENGTH) ? UNITS_LAYOUT
+																							 : INVALID_LAYOUT;
+		return layout;
+	}
+
+	/**
+	 * @return <tt>true</tt> if the character can be the separator of the given index, ';' only before the frames
+	 */
+	static boolean isSeparator(char character, int separatorIndex) {
+		return character == ':' || (separatorIndex == 2 && character == ';');
+	}
+
+	/**
+	 * @param layout The layout of a value returned by {@link #scan(CharSequence)}
+	 * @param field  {@link #HOURS_FIELD}, {@link #MINUTES_FIELD}, {@link #SECONDS_FIELD} or {@link #FRAMES_FIELD},
+	 *               which is the frame count on a {@link #FRAME_COUNT_LAYOUT}
+	 *
+	 * @return The offset of the field in the value
+	 */
+	static int fieldOffset(int layout, int field) {
+		return layout >>> (field * 8) & 0xFF;
 	}
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static com.transgressoft.timecode.TimecodeInputType.*;
+
+/**
+ * Parser of the value of a timecode given either as hh:mm:ss:ff (or hh:mm:ss;ff)
+ * or as a total number of frames. The frames have three digits, hh:mm:ss:fff,
+ * on the frame rates that have more than 99 frames per second.
+ *
+ * <p>The value is read in a single pass over its characters, which checks its format like
+ * {@link TimecodeInputType#scan(CharSequence)} while the digits of its fields are added up,
+ * without regular expressions, temporary strings nor boxing. It doesn't hold any state,
+ * so it can be used concurrently by any number of threads.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class TimecodeParser {
+
+	/**
+	 * Fields read from a value that is not a timecode
+	 */
+	private static final long INVALID_FIELDS = - 1;
+
+	/**
+	 * Flag of the fields read from a value as units, whose fields take {@link #FIELD_BITS} bits each,
+	 * the frames in the lowest ones. Without it, the fields are the frame count.
+	 */
+	private static final long UNITS_FIELDS = 1L << 40;
+	private static final int FIELD_BITS = 10;
+	private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+
+	private TimecodeParser() {}
+
+	/**
+	 * Parses the given <tt>value</tt> and creates the {@link Timecode} it represents
+	 *
+	 * @param frameRateString The frame rate
+	 * @param value           The value of the timecode, as hh:mm:ss:ff or as a frame count
+	 *
+	 * @return The <tt>Timecode</tt> object
+	 *
+	 * @throws TimecodeException if <tt>frameRateString</tt> or <tt>value</tt> are not well formatted or unsupported
+	 */
+	static Timecode parse(CharSequence frameRateString, CharSequence value) throws TimecodeException {
+		long fields = readFields(value);
+		if (fields == INVALID_FIELDS)
+			throw TimecodeException.stackless(INVALID_INPUT_FORMAT);
+		FrameRateType frameRateType = FrameRateType.fromString(frameRateString);
+
+		Timecode timecode;
+		if ((fields & UNITS_FIELDS) != 0) {
+			if (value.length() != frameRateType.getStringLength())
+				throw TimecodeException.stackless(INVALID_INPUT_FORMAT);
+			timecode = TimecodeFactory.createTimeCode(frameRateType, field(fields, HOURS_FIELD),
+													  field(fields, MINUTES_FIELD), field(fields, SECONDS_FIELD),
+													  field(fields, FRAMES_FIELD));
+		}
+		else
+			timecode = TimecodeFactory.createTimeCode(frameRateType, (int) fields);
+		return timecode;
+	}
+
+	/**
+	 * Parses the given <tt>value</tt> like {@link #parse(CharSequence, CharSequence)}, without throwing
+	 * exceptions nor creating the {@link Timecode} object
+	 *
+	 * @param frameRateString The frame rate
+	 * @param value           The value of the timecode, as hh:mm:ss:ff or as a frame count
+	 *
+	 * @return The packed timecode, or a negative number with the error case if it's not valid
+	 * @see PackedTimecode#errorCase(long)
+	 */
+	static long tryParse(CharSequence frameRateString, CharSequence value) {
+		long fields = readFields(value);
+		FrameRateType frameRateType = FrameRateType.tryFromString(frameRateString);
+
+		long packedTimecode;
+		if (fields == INVALID_FIELDS)
+			packedTimecode = PackedTimecode.error(INVALID_INPUT_FORMAT);
+		else if (frameRateType == null)
+			packedTimecode = PackedTimecode.error(INVALID_FRAME_RATE);
+		else if ((fields & UNITS_FIELDS) != 0 && value.length() != frameRateType.getStringLength())
+			packedTimecode = PackedTimecode.error(INVALID_INPUT_FORMAT);
+		else if ((fields & UNITS_FIELDS) != 0)
+			packedTimecode = PackedTimecode.tryPack(frameRateType, field(fields, HOURS_FIELD),
+													field(fields, MINUTES_FIELD), field(fields, SECONDS_FIELD),
+													field(fields, FRAMES_FIELD));
+		else
+			packedTimecode = PackedTimecode.tryPack(frameRateType, (int) fields);
+		return packedTimecode;
+	}
+
+	/**
+	 * Reads the fields of the value in a single pass over its characters. A separator is only
+	 * admitted right before the offset of the next field of {@link TimecodeInputType#UNITS_LAYOUT},
+	 * where it closes the field being read, and any other character must be a digit of it.
+	 *
+	 * @return The frame count, the fields of the units flagged with {@link #UNITS_FIELDS},
+	 *         or {@link #INVALID_FIELDS} if the value is not a timecode
+	 */
+	private static long readFields(CharSequence value) {
+		int length = value.length();
+		int separators = 0;
+		long fields = 0;
+		long number = 0;
+		boolean valid = length != 0;
+
+		for (int i = 0; i < length && valid; i++) {
+			char character = value.charAt(i);
+			if (separators < FRAMES_FIELD && i == fieldOffset(UNITS_LAYOUT, separators + 1) - 1 &&
+					isSeparator(character, separators)) {
+				fields = fields << FIELD_BITS | number;
+				number = 0;
+				separators++;
+			}
+			else if (character >= '0' && character <= '9')
+				// out of any frame count limit anyway
+				number = Math.min(number * 10 + (character - '0'), Integer.MAX_VALUE);
+			else
+				valid = false;
+		}
+
+		long result;
+		if (valid && separators == 0)
+			result = number;
+		else if (valid && separators == FRAMES_FIELD && (length == UNITS_LENGTH || length == MAX_UNITS_LENGTH))
+			result = UNITS_FIELDS | fields << FIELD_BITS | number;
+		else
+			result = INVALID_FIELDS;
+		return result;
+	}
+
+	private static int field(long fields, int field) {
+		return (int) (fields >>> (FRAMES_FIELD - field) * FIELD_BITS) & FIELD_MASK;
+	}
+}
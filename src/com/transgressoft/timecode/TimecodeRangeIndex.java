@@ -0,0 +1,304 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Index of ranges of timecodes of a frame rate, like the in and out points of clips, that finds the
+ * ranges that cover a frame or that overlap another range. The ranges are half open, <tt>[in, out)</tt>,
+ * on the frame counts of the timecodes, so a range doesn't cover its out frame and an empty range,
+ * with the same in and out, doesn't cover any frame. The ranges are identified by their position in
+ * the arrays from which the index is built.
+ *
+ * <p>The index is an augmented interval tree laid out implicitly on the ranges sorted by their in
+ * frame: the node of the position <tt>i</tt> is at the level of the number of trailing one bits of
+ * <tt>i</tt>, its children are at <tt>i &plusmn; 2<sup>level - 1</sup></tt>, and it stores the
+ * greatest out frame of its subtree. The ranges are stored in <tt>int</tt> arrays, without an object
+ * per range, and a query visits only the subtrees that can overlap it.</p>
+ *
+ * <p>The index is built at once from all the ranges and is immutable, so it can be queried from
+ * several threads. Indexes of {@value #PARALLEL_BUILD_THRESHOLD} ranges or more are built in parallel.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeRangeIndex {
+
+	/**
+	 * Number of ranges from which the index is sorted and augmented in parallel
+	 */
+	static final int PARALLEL_BUILD_THRESHOLD = 1 << 16;
+
+	/**
+	 * Levels of the subtrees whose nodes are all scanned, instead of descended
+	 */
+	private static final int SCAN_LEVEL = 3;
+
+	private final FrameRateType frameRateType;
+	private final int[] ins;
+	private final int[] outs;
+	private final int[] ids;
+
+	/**
+	 * Greatest out frame of the subtree of every node
+	 */
+	private final int[] maxOuts;
+	private final int rootLevel;
+
+	private TimecodeRangeIndex(FrameRateType frameRateType, int[] ins, int[] outs, int[] ids) {
+		this.frameRateType = frameRateType;
+		this.ins = ins;
+		this.outs = outs;
+		this.ids = ids;
+		maxOuts = new int[ins.length];
+		rootLevel = augment();
+	}
+
+	/**
+	 * Builds the index of the ranges given by their in and out frame counts
+	 *
+	 * @param frameRateType The frame rate of the frame counts
+	 * @param ins           The frame count of the first frame of every range
+	 * @param outs          The frame count of the frame after the last one of every range
+	 *
+	 * @return The index, whose ranges are identified by their position in the arrays
+	 *
+	 * @throws IllegalArgumentException If the arrays have different lengths, or a range is
+	 *                                  out of the limits of the frame rate or ends before its in
+	 */
+	public static TimecodeRangeIndex of(FrameRateType frameRateType, int[] ins, int[] outs) {
+		checkArgument(ins.length == outs.length, "Different number of ins and outs: %s %s", ins.length, outs.length);
+		int size = ins.length;
+		boolean parallel = size >= PARALLEL_BUILD_THRESHOLD;
+		int frameCountLimit = frameRateType.getFrameCountLimit();
+
+		// sorted by in frame and by position, packed in a long each to sort primitives
+		long[] sortKeys = new long[size];
+		range(size, parallel).forEach(i -> {
+			checkArgument(ins[i] >= 0 && ins[i] <= outs[i] && outs[i] <= frameCountLimit, "Invalid range %s %s",
+						  ins[i], outs[i]);
+			sortKeys[i] = (long) ins[i] << 32 | i;
+		});
+		if (parallel)
+			Arrays.parallelSort(sortKeys);
+		else
+			Arrays.sort(sortKeys);
+
+		int[] sortedIns = new int[size];
+		int[] sortedOuts = new int[size];
+		int[] ids = new int[size];
+		range(size, parallel).forEach(i -> {
+			ids[i] = (int) sortKeys[i];
+			sortedIns[i] = (int) (sortKeys[i] >>> 32);
+			sortedOuts[i] = outs[ids[i]];
+		});
+		return new TimecodeRangeIndex(frameRateType, sortedIns, sortedOuts, ids);
+	}
+
+	/**
+	 * Builds the index of the ranges given by their in and out timecodes
+	 *
+	 * @param ins  The timecode of the first frame of every range
+	 * @param outs The timecode of the frame after the last one of every range
+	 *
+	 * @return The index, whose ranges are identified by their position in the arrays
+	 *
+	 * @throws IllegalArgumentException If there are no ranges, the arrays have different lengths,
+	 *                                  the timecodes are of several frame rates or a range ends before its in
+	 */
+	public static TimecodeRangeIndex of(Timecode[] ins, Timecode[] outs) {
+		checkArgument(ins.length > 0, "There are no ranges");
+		checkArgument(ins.length == outs.length, "Different number of ins and outs: %s %s", ins.length, outs.length);
+		FrameRateType frameRateType = ins[0].getFrameRateType();
+		int[] inFrameCounts = new int[ins.length];
+		int[] outFrameCounts = new int[outs.length];
+		for (int i = 0; i < ins.length; i++) {
+			inFrameCounts[i] = frameCountOf(frameRateType, ins[i]);
+			outFrameCounts[i] = frameCountOf(frameRateType, outs[i]);
+		}
+		return of(frameRateType, inFrameCounts, outFrameCounts);
+	}
+
+	private static IntStream range(int size, boolean parallel) {
+		IntStream range = IntStream.range(0, size);
+		return parallel ? range.parallel() : range;
+	}
+
+	private static int frameCountOf(FrameRateType frameRateType, Timecode timecode) {
+		checkArgument(timecode.getFrameRateType() == frameRateType, "Invalid frame rate %s",
+					  timecode.getFrameRateType());
+		return timecode.getFrameCount();
+	}
+
+	/**
+	 * Computes the greatest out frame of the subtree of every node, bottom up, level by level.
+	 * The nodes beyond the last range, that have no range but can have one in their left subtree,
+	 * take the greatest out frame of the last subtree, that is propagated upwards.
+	 *
+	 * @return The level of the root
+	 */
+	private int augment() {
+		int size = ins.length;
+		int level = 0;
+		if (size > 0) {
+			boolean parallel = size >= PARALLEL_BUILD_THRESHOLD;
+			int lastNode = 0;
+			int lastMaxOut = 0;
+			for (int i = 0; i < size; i += 2) {
+				maxOuts[i] = outs[i];
+				lastNode = i;
+				lastMaxOut = outs[i];
+			}
+			for (level = 1; 1L << level <= size; level++) {
+				int halfStep = 1 << level - 1;
+				int firstNode = (1 << level) - 1;
+				int missingMaxOut = lastMaxOut;
+				range((size - firstNode + 4 * halfStep - 1) / (4 * halfStep), parallel).forEach(n -> {
+					int node = firstNode + n * 4 * halfStep;
+					int right = node + halfStep;
+					int maxOut = Math.max(outs[node], maxOuts[node - halfStep]);
+					maxOuts[node] = Math.max(maxOut, right < size ? maxOuts[right] : missingMaxOut);
+				});
+				lastNode = (lastNode >> level & 1) == 1 ? lastNode - halfStep : lastNode + halfStep;
+				if (lastNode < size)
+					lastMaxOut = Math.max(lastMaxOut, maxOuts[lastNode]);
+			}
+			level--;
+		}
+		return level;
+	}
+
+	/**
+	 * Calls the given action with the ranges that overlap the range <tt>[from, to)</tt>,
+	 * in the order of their in frame
+	 *
+	 * @param from   The first frame count of the range
+	 * @param to     The frame count after the last one of the range
+	 * @param action The action called with the position of every range that overlaps it
+	 */
+	public void forEachOverlapping(int from, int to, IntConsumer action) {
+		int size = ins.length;
+		if (size > 0 && from < to) {
+			// nodes to visit, packed with their level and whether their left child was visited
+			long[] stack = new long[2 * (rootLevel + 1)];
+			int top = 0;
+			stack[top++] = pushed((1 << rootLevel) - 1, rootLevel, false);
+			while (top > 0) {
+				long pushed = stack[--top];
+				int node = (int) (pushed >>> 32);
+				int level = ((int) pushed) >>> 1;
+				if (level <= SCAN_LEVEL) {
+					int first = node >> level << level;
+					int last = Math.min(first + (2 << level) - 1, size);
+					for (int i = first; i < last && ins[i] < to; i++)
+						if (Math.max(from, ins[i]) < outs[i])
+							action.accept(ids[i]);
+				}
+				else if ((pushed & 1) == 0) {
+					int left = node - (1 << level - 1);
+					stack[top++] = pushed(node, level, true);
+					if (left >= size || maxOuts[left] > from)
+						stack[top++] = pushed(left, level - 1, false);
+				}
+				else if (node < size && ins[node] < to) {
+					if (Math.max(from, ins[node]) < outs[node])
+						action.accept(ids[node]);
+					stack[top++] = pushed(node + (1 << level - 1), level - 1, false);
+				}
+			}
+		}
+	}
+
+	private static long pushed(int node, int level, boolean leftVisited) {
+		return (long) node << 32 | level << 1 | (leftVisited ? 1 : 0);
+	}
+
+	/**
+	 * @return The positions of the ranges that overlap the range <tt>[from, to)</tt>, in the order of their in frame
+	 */
+	public int[] overlapping(int from, int to) {
+		IntStream.Builder overlapping = IntStream.builder();
+		forEachOverlapping(from, to, overlapping);
+		return overlapping.build().toArray();
+	}
+
+	/**
+	 * @return The positions of the ranges that overlap the range from the <tt>in</tt> timecode
+	 *         to the <tt>out</tt> one, not included
+	 *
+	 * @throws IllegalArgumentException If the timecodes are not of the frame rate of the index
+	 */
+	public int[] overlapping(Timecode in, Timecode out) {
+		return overlapping(frameCountOf(frameRateType, in), frameCountOf(frameRateType, out));
+	}
+
+	/**
+	 * @return The number of ranges that overlap the range <tt>[from, to)</tt>
+	 */
+	public int countOverlapping(int from, int to) {
+		int[] count = {0};
+		forEachOverlapping(from, to, position -> count[0]++);
+		return count[0];
+	}
+
+	/**
+	 * Calls the given action with the ranges that cover the given frame, in the order of their in frame
+	 *
+	 * @param frameCount The frame count of the frame
+	 * @param action     The action called with the position of every range that covers it
+	 */
+	public void forEachCovering(int frameCount, IntConsumer action) {
+		forEachOverlapping(frameCount, frameCount + 1, action);
+	}
+
+	/**
+	 * @return The positions of the ranges that cover the given frame, in the order of their in frame
+	 */
+	public int[] covering(int frameCount) {
+		return overlapping(frameCount, frameCount + 1);
+	}
+
+	/**
+	 * @return The positions of the ranges that cover the frame of the given timecode
+	 *
+	 * @throws IllegalArgumentException If the timecode is not of the frame rate of the index
+	 */
+	public int[] covering(Timecode timecode) {
+		return covering(frameCountOf(frameRateType, timecode));
+	}
+
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	/**
+	 * @return The number of ranges of the index
+	 */
+	public int size() {
+		return ins.length;
+	}
+
+	@Override
+	public String toString() {
+		return "TimecodeRangeIndex[" + frameRateType + ", " + ins.length + " ranges]";
+	}
+}
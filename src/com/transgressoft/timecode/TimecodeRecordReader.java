@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Random access reader of a timecode records file, mapped in memory.
+ *
+ * <p>A timecode records file is a header of {@value #HEADER_SIZE} bytes followed by records of
+ * {@value #RECORD_SIZE} bytes, one per timecode, all of them of the frame rate of the header.
+ * The header has the <tt>int</tt> {@link #MAGIC}, the <tt>short</tt> {@link #VERSION} of the format,
+ * the length of the name of the frame rate in a byte, an unused byte, and the ASCII name of the
+ * frame rate, padded with zeros. Each record has the <tt>int</tt> frame count of the timecode
+ * and its units packed in an <tt>int</tt> as {@link TimecodeBatch#countUnits(FrameRateType, int[], int[])}
+ * does. All the numbers are big endian, as read by {@link DataInputStream}.</p>
+ *
+ * <p>The frame count is the value of the timecode, the units are given so that readers don't need
+ * to compute them. The files are written with {@link TimecodeRecordWriter}.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeRecordReader implements Closeable {
+
+	/**
+	 * The ASCII characters <tt>TCRF</tt>
+	 */
+	public static final int MAGIC = 0x54435246;
+	public static final short VERSION = 1;
+	public static final int HEADER_SIZE = 32;
+	public static final int RECORD_SIZE = 8;
+	static final int MAX_FRAME_RATE_NAME_LENGTH = HEADER_SIZE - 8;
+
+	/**
+	 * Size of the regions mapped, below the 2GB limit of a {@link MappedByteBuffer}
+	 */
+	private static final int REGION_SHIFT = 30;
+	private static final long REGION_SIZE = 1L << REGION_SHIFT;
+
+	private final FileChannel channel;
+	private final FrameRateType frameRateType;
+	private final MappedByteBuffer[] regions;
+	private final long size;
+
+	private TimecodeRecordReader(FileChannel channel, FrameRateType frameRateType, long size) throws IOException {
+		this.channel = channel;
+		this.frameRateType = frameRateType;
+		this.size = size;
+		long recordsSize = size * RECORD_SIZE;
+		regions = new MappedByteBuffer[(int) ((recordsSize + REGION_SIZE - 1) >>> REGION_SHIFT)];
+		for (int region = 0; region < regions.length; region++) {
+			long start = region * REGION_SIZE;
+			regions[region] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + start,
+										  Math.min(REGION_SIZE, recordsSize - start));
+		}
+	}
+
+	/**
+	 * Opens a timecode records file and maps it in memory
+	 *
+	 * @param path The path of the file
+	 *
+	 * @return The reader of the file
+	 *
+	 * @throws IOException       If the file can't be read, or it's not a timecode records
+	 *                           file of a version supported
+	 * @throws TimecodeException If the frame rate of the file is unknown
+	 */
+	public static TimecodeRecordReader open(Path path) throws IOException, TimecodeException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			int read = 0;
+			while (header.hasRemaining() && read >= 0)
+				read = channel.read(header);
+			header.flip();
+			long recordsSize = channel.size() - HEADER_SIZE;
+			if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || recordsSize % RECORD_SIZE != 0)
+				throw new IOException("Invalid timecode records file " + path);
+			short version = header.getShort();
+			if (version != VERSION)
+				throw new IOException("Unsupported timecode records file version " + version);
+			int nameLength = header.get();
+			if (nameLength <= 0 || nameLength > MAX_FRAME_RATE_NAME_LENGTH)
+				throw new IOException("Invalid timecode records file " + path);
+			String name = new String(header.array(), 8, nameLength, StandardCharsets.US_ASCII);
+			return new TimecodeRecordReader(channel, FrameRateType.fromString(name), recordsSize / RECORD_SIZE);
+		}
+		catch (IOException | TimecodeException | RuntimeException exception) {
+			channel.close();
+			throw exception;
+		}
+	}
+
+	private int recordInt(long index, int field) {
+		checkArgument(index >= 0 && index < size, "Invalid record index %s", index);
+		long position = index * RECORD_SIZE + field;
+		return regions[(int) (position >>> REGION_SHIFT)].getInt((int) (position & REGION_SIZE - 1));
+	}
+
+	/**
+	 * @return The frame count of the record of the given index
+	 */
+	public int getFrameCount(long index) {
+		return recordInt(index, 0);
+	}
+
+	/**
+	 * @return The units of the record of the given index, see {@link TimecodeBatch#hoursOf(int)},
+	 *         {@link TimecodeBatch#minutesOf(int)}, {@link TimecodeBatch#secondsOf(int)} and
+	 *         {@link TimecodeBatch#framesOf(int)}
+	 */
+	public int getUnits(long index) {
+		return recordInt(index, 4);
+	}
+
+	/**
+	 * @return The {@link Timecode} of the record of the given index
+	 *
+	 * @throws IllegalArgumentException If the units of the record are not valid on the frame rate
+	 */
+	public Timecode getTimecode(long index) {
+		int units = getUnits(index);
+		return TimecodeFactory.createTimeCode(frameRateType, TimecodeBatch.hoursOf(units), TimecodeBatch.minutesOf(units),
+											  TimecodeBatch.secondsOf(units), TimecodeBatch.framesOf(units));
+	}
+
+	/**
+	 * Reads the frame counts of <tt>length</tt> records, starting at the given index
+	 *
+	 * @param index       The index of the first record
+	 * @param frameCounts The array where the frame counts are written
+	 * @param from        The index of the array of the first frame count
+	 * @param length      The number of records to read
+	 */
+	public void read(long index, int[] frameCounts, int from, int length) {
+		checkArgument(from >= 0 && length >= 0 && from + length <= frameCounts.length, "Invalid frame counts range");
+		checkArgument(index >= 0 && index + length <= size, "Invalid records range");
+		for (int i = 0; i < length; i++)
+			frameCounts[from + i] = getFrameCount(index + i);
+	}
+
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	/**
+	 * @return The number of records of the file
+	 */
+	public long size() {
+		return size;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
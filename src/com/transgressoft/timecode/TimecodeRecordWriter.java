@@ -0,0 +1,153 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.transgressoft.timecode.TimecodeRecordReader.*;
+
+/**
+ * Writer of timecode records files, the binary format described in {@link TimecodeRecordReader}.
+ * The header is written on creation, and the records are buffered and written to the channel
+ * when the buffer is full.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public final class TimecodeRecordWriter implements Closeable, Flushable {
+
+	static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Number of frame counts whose units are computed at once writing arrays of them
+	 */
+	private static final int UNITS_BLOCK_SIZE = 1024;
+
+	private final WritableByteChannel channel;
+	private final FrameRateType frameRateType;
+	private final ByteBuffer buffer;
+	private final int[] units = new int[UNITS_BLOCK_SIZE];
+
+	/**
+	 * Creates a writer to the given channel, writing the header of the frame rate
+	 *
+	 * @param channel       The channel of the file
+	 * @param frameRateType The frame rate of all the timecodes
+	 *
+	 * @throws IllegalArgumentException If the name of the frame rate is longer than the header allows
+	 */
+	public TimecodeRecordWriter(WritableByteChannel channel, FrameRateType frameRateType) {
+		this(channel, frameRateType, DEFAULT_BUFFER_SIZE);
+	}
+
+	TimecodeRecordWriter(WritableByteChannel channel, FrameRateType frameRateType, int bufferSize) {
+		byte[] name = frameRateType.toString().getBytes(StandardCharsets.US_ASCII);
+		checkArgument(name.length <= MAX_FRAME_RATE_NAME_LENGTH, "Frame rate name too long %s", frameRateType);
+		checkArgument(bufferSize >= HEADER_SIZE && bufferSize % RECORD_SIZE == 0, "Invalid buffer size %s",
+					  bufferSize);
+		this.channel = channel;
+		this.frameRateType = frameRateType;
+		buffer = ByteBuffer.allocate(bufferSize);
+		buffer.putInt(MAGIC).putShort(VERSION).put((byte) name.length).put((byte) 0).put(name);
+		buffer.position(HEADER_SIZE);
+	}
+
+	/**
+	 * Writes the record of a frame count
+	 *
+	 * @param frameCount The frame count of the timecode
+	 *
+	 * @throws IOException              If the channel can't be written
+	 * @throws IllegalArgumentException If the frame count is out of the limits of the frame rate
+	 */
+	public void write(int frameCount) throws IOException {
+		checkArgument(frameCount >= 0 && frameCount < frameRateType.getFrameCountLimit(), "Invalid frame count %s",
+					  frameCount);
+		writePacked(PackedTimecode.packFrameCount(frameRateType, frameCount));
+	}
+
+	/**
+	 * Writes the record of a packed timecode
+	 *
+	 * @param packedTimecode The packed timecode
+	 *
+	 * @throws IOException              If the channel can't be written
+	 * @throws IllegalArgumentException If it's an error code or a timecode of another frame rate
+	 */
+	public void writePacked(long packedTimecode) throws IOException {
+		checkArgument(! PackedTimecode.isError(packedTimecode), "Invalid packed timecode %s", packedTimecode);
+		checkArgument(PackedTimecode.frameRateType(packedTimecode) == frameRateType, "Invalid frame rate %s",
+					  PackedTimecode.frameRateType(packedTimecode));
+		if (buffer.remaining() < RECORD_SIZE)
+			flush();
+		buffer.putInt(PackedTimecode.frameCount(packedTimecode));
+		buffer.putInt(TimecodeBatch.packUnits(PackedTimecode.hours(packedTimecode),
+											  PackedTimecode.minutes(packedTimecode),
+											  PackedTimecode.seconds(packedTimecode),
+											  PackedTimecode.frames(packedTimecode)));
+	}
+
+	/**
+	 * Writes the records of <tt>length</tt> frame counts, starting at <tt>from</tt>,
+	 * computing their units in blocks with {@link TimecodeBatch#countUnits}
+	 *
+	 * @param frameCounts The frame counts
+	 * @param from        The index of the first frame count to write
+	 * @param length      The number of frame counts to write
+	 *
+	 * @throws IOException              If the channel can't be written
+	 * @throws IllegalArgumentException If a frame count is out of the limits of the frame rate
+	 */
+	public void write(int[] frameCounts, int from, int length) throws IOException {
+		checkArgument(from >= 0 && length >= 0 && from + length <= frameCounts.length, "Invalid frame counts range");
+		for (int block = from; block < from + length; block += UNITS_BLOCK_SIZE) {
+			int blockLength = Math.min(UNITS_BLOCK_SIZE, from + length - block);
+			TimecodeBatch.countUnits(frameRateType, frameCounts, block, blockLength, units, 0);
+			for (int i = 0; i < blockLength; i++) {
+				if (buffer.remaining() < RECORD_SIZE)
+					flush();
+				buffer.putInt(frameCounts[block + i]).putInt(units[i]);
+			}
+		}
+	}
+
+	public FrameRateType getFrameRateType() {
+		return frameRateType;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		}
+		finally {
+			channel.close();
+		}
+	}
+}
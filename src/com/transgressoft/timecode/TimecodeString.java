@@ -16,8 +16,6 @@
 
 package com.transgressoft.timecode;
 
-import java.util.*;
-
 /**
  * Class that converts between frame counts and a timecode string representation.
  *
@@ -26,13 +24,7 @@ import java.util.*;
  */
 public class TimecodeString {
 
-	private static int hours;
-	private static int minutes;
-	private static int seconds;
-	private static int frames;
-	private static int frameCount;
-
-	private Timecode timecode;
+	private final Timecode timecode;
 
 	private TimecodeString(Timecode timecode) {
 		this.timecode = timecode;
@@ -40,7 +32,8 @@ public class TimecodeString {
 
 	/**
 	 * Constructs a {@link TimecodeString} object given the frame rate and the value,
-	 * both represented as <tt>String</tt> objects
+	 * both represented as <tt>String</tt> objects. It is safe to call it concurrently
+	 * from any number of threads.
 	 *
 	 * @param frameRateString The frame rate
 	 * @param value           The value of the timecode
@@ -50,20 +43,8 @@ public class TimecodeString {
 	 * @throws TimecodeException if <tt>frameRateString</tt> or <tt>value</tt> are not well formatted or unsupported
 	 */
 	public static TimecodeString of(String frameRateString, String value) throws TimecodeException {
-		TimecodeInputType timecodeInputType = TimecodeInputType.fromString(value);
-
-		TimecodeString timecodeString = null;
-
-		if (timecodeInputType.equals(TimecodeInputType.FRAME_COUNT_INPUT_TYPE)) {
-			frameCount = Integer.valueOf(value);
-			timecodeString = of(frameRateString, frameCount);
-		}
-		else if (timecodeInputType.equals(TimecodeInputType.UNITS_INPUT_TYPE)) {
-			parseInputByUnits(value);
-			timecodeString = of(frameRateString, hours, minutes, seconds, frames);
-		}
-		clearStaticValues();
-		return timecodeString;
+		Timecode givenTimecode = TimecodeParser.parse(frameRateString, value);
+		return new TimecodeString(givenTimecode);
 	}
 
 	/**
@@ -81,14 +62,6 @@ public class TimecodeString {
 		return new TimecodeString(givenTimecode);
 	}
 
-	private static void parseInputByUnits(String input) {
-		StringTokenizer stringTokenizer = new StringTokenizer(input, ":;");
-		hours = Integer.valueOf(stringTokenizer.nextToken());
-		minutes = Integer.valueOf(stringTokenizer.nextToken());
-		seconds = Integer.valueOf(stringTokenizer.nextToken());
-		frames = Integer.valueOf(stringTokenizer.nextToken());
-	}
-
 	/**
 	 * Constructs a {@link TimecodeString} object given a frame rate expressed as <tt>String</tt>,
 	 * the number of days, hours, minutes, seconds, and frames;
@@ -107,14 +80,6 @@ public class TimecodeString {
 		return new TimecodeString(givenTimecode);
 	}
 
-	private static void clearStaticValues() {
-		hours = 0;
-		minutes = 0;
-		seconds = 0;
-		frames = 0;
-		frameCount = 0;
-	}
-
 	public String getFrameCountString() {
 	    return Long.toString(timecode.getFrameCount());
     }
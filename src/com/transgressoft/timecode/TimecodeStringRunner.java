@@ -16,12 +16,17 @@
 
 package com.transgressoft.timecode;
 
+import com.transgressoft.timecode.TimecodeException.*;
 import org.docopt.*;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static java.nio.file.StandardOpenOption.*;
 
 /**
  * Sample class to run the TimecodeString library by command line.
@@ -41,15 +46,52 @@ public class TimecodeStringRunner {
 	private static final String DOC = "Timecode String.\n\n" +
 			"Usage:\n" +
 			"  TimecodeString <frame_rate> <value>\n" +
-			"  TimecodeString <input_file> [-o <output_file>]\n\n" +
+			"  TimecodeString <input_file> [-o <output_file>] [-j <threads>] [-k [-r <reject_file>]]" +
+			" [--in-format=<format>] [--out-format=<format>] [--buffer-size=<bytes>] [--fsync]\n\n" +
 			"Options:\n" +
-			"  -o = <output_file> specify output file [default: output.txt]\n";
+			"  -o = <output_file> specify output file [default: output.txt]\n" +
+			"  -j = <threads> number of threads converting the input file [default: 1]\n" +
+			"  -k --keep-going  write the invalid lines to the reject file instead of stopping at the first one\n" +
+			"  -r = <reject_file> specify reject file [default: rejects.txt]\n" +
+			"  --in-format=<format>  format of the input file, text or bin [default: text]\n" +
+			"  --out-format=<format>  format of the output file, text or bin [default: text]\n" +
+			"  --buffer-size=<bytes>  size of the buffer of the text output file [default: 1048576]\n" +
+			"  --fsync  sync the output file to the storage device at the end\n";
+
+	private static final String TEXT_FORMAT = "text";
+	private static final String BINARY_FORMAT = "bin";
+
+	/**
+	 * Estimated average length in bytes of an input line, used to size the chunks
+	 */
+	private static final int ESTIMATED_LINE_LENGTH = 16;
+	private static final int CHUNKS_PER_THREAD = 4;
+	private static final int MIN_CHUNK_SIZE = 256;
+	private static final int MAX_CHUNK_SIZE = 16384;
+
+	/**
+	 * Input files of this size or bigger are mapped in memory instead of being read line by line
+	 */
+	private static final long MAPPED_FILE_MIN_SIZE = 64L << 20;
+
+	/**
+	 * Frame rate of the header of an output records file in which no line was converted,
+	 * if none of the rejected lines requested a valid frame rate either
+	 */
+	private static final FrameRateType DEFAULT_RECORDS_FRAME_RATE = FrameRateType.FPS25;
 
 	private static String frameRate;
 	private static String value;
 	private static String inputFilePath;
 	private static String outputFilePath;
-	private static List<TimecodeString> timecodes;
+	private static int threads;
+	private static boolean keepGoing;
+	private static String rejectFilePath;
+	private static boolean binaryInput;
+	private static boolean binaryOutput;
+	private static int bufferSize;
+	private static boolean fsync;
+	private static ConversionReport report;
 
 	public static void main(String... args) {
 		Map<String, Object> options = new Docopt(DOC).withVersion("TimecodeString 0.1").parse(args);
@@ -59,8 +101,22 @@ public class TimecodeStringRunner {
 		outputFilePath = (String) options.get("-o");
 		if (outputFilePath == null)
 			outputFilePath = "output.txt";
+		String threadsOption = (String) options.get("-j");
+		keepGoing = Boolean.TRUE.equals(options.get("--keep-going"));
+		rejectFilePath = (String) options.get("-r");
+		if (rejectFilePath == null)
+			rejectFilePath = "rejects.txt";
 
 		try {
+			threads = threadsOption == null ? 1 : Integer.parseInt(threadsOption);
+			checkArgument(threads > 0, "Number of threads must be greater than zero");
+			binaryInput = isBinaryFormat((String) options.get("--in-format"));
+			binaryOutput = isBinaryFormat((String) options.get("--out-format"));
+			String bufferSizeOption = (String) options.get("--buffer-size");
+			bufferSize = bufferSizeOption == null ? AsciiTimecodeWriter.DEFAULT_BUFFER_SIZE
+												  : Integer.parseInt(bufferSizeOption);
+			fsync = Boolean.TRUE.equals(options.get("--fsync"));
+
 			if (frameRate != null && value != null) {
 				if (! outputFilePath.equals("output.txt"))
 					System.err.println(DOC);
@@ -68,8 +124,7 @@ public class TimecodeStringRunner {
 					System.out.println(TimecodeString.of(frameRate, value).getFullTimecodeString());
 			}
 			else if (inputFilePath != null) {
-				readTimecodesFromFile();
-				writeTimecodesToFile();
+				convertTimecodesFile();
 			}
 		}
 		catch (Exception exception) {
@@ -77,37 +132,309 @@ public class TimecodeStringRunner {
 		}
 	}
 
-	private static void readTimecodesFromFile() throws Exception {
+	private static boolean isBinaryFormat(String format) {
+		checkArgument(format == null || TEXT_FORMAT.equals(format) || BINARY_FORMAT.equals(format),
+					  "Format must be %s or %s", TEXT_FORMAT, BINARY_FORMAT);
+		return BINARY_FORMAT.equals(format);
+	}
+
+	/**
+	 * Converts the input file line by line, writing every converted line to the
+	 * output file as soon as it is available, so memory usage doesn't depend on
+	 * the size of the input file. Big files are mapped in memory and split in
+	 * regions converted by each thread.
+	 *
+	 * <p>With <tt>--keep-going</tt>, invalid lines are written to the reject file
+	 * with their line number and {@link ErrorCase}, and the number of lines
+	 * rejected by each error case is printed at the end.</p>
+	 *
+	 * <p>The text output is written with an {@link AsciiTimecodeWriter} of <tt>--buffer-size</tt> bytes.
+	 * With <tt>--fsync</tt>, the output file is synced to the storage device once it's written.</p>
+	 *
+	 * <p>With <tt>--out-format bin</tt> the timecodes are written as a timecode records file,
+	 * see {@link TimecodeRecordReader}, whose frame rate is the one of the first valid line.
+	 * If no line is converted, the header is written with the frame rate requested by the first
+	 * rejected line, or with <tt>25fps</tt> if none requested a valid one.
+	 * With <tt>--in-format bin</tt> the input file is read as a timecode records file.</p>
+	 *
+	 * <p>Text input and output files ending with <tt>.gz</tt> are read and written gzipped,
+	 * see {@link GzipFiles}. Gzipped input files are decompressed by their own thread while
+	 * the lines are converted, instead of being mapped in memory.</p>
+	 */
+	private static void convertTimecodesFile() throws Exception {
 		File inputFile = new File(inputFilePath);
 		checkArgument(inputFile.exists(), "Input file doesn't exist");
-		checkArgument(inputFile.isDirectory(), "Input file can't be a directory");
-
-		timecodes = new ArrayList<>();
-		Scanner scanner = new Scanner(inputFile);
-		String frameRate;
-		String value;
-
-		while (scanner.hasNextLine()) {
-			StringTokenizer stk = new StringTokenizer(scanner.nextLine(), " ");
-			if (stk.countTokens() != 2) {
-				scanner.close();
-				throw new IllegalArgumentException("Invalid line arguments. Should be <frame_rate> <value>");
+		checkArgument(! inputFile.isDirectory(), "Input file can't be a directory");
+		File outputFile = new File(outputFilePath);
+		File rejectFile = keepGoing ? new File(rejectFilePath) : null;
+		checkArgument(! (binaryInput && GzipFiles.isGzipped(inputFile)), "Timecode records files can't be gzipped");
+		checkArgument(! (binaryOutput && GzipFiles.isGzipped(outputFile)), "Timecode records files can't be gzipped");
+
+		if (binaryInput)
+			convertRecordsFile(inputFile, outputFile, rejectFile);
+		else if (! GzipFiles.isGzipped(inputFile) && inputFile.length() >= MAPPED_FILE_MIN_SIZE && ! binaryOutput)
+			report = new MappedFileConverter(inputFile, outputFile, rejectFile, threads, bufferSize, fsync).convert();
+		else
+			convertTimecodesFileByLines(inputFile, outputFile, rejectFile);
+		System.out.println("Timecode string conversion successfully dumped to " + outputFile.getAbsolutePath());
+		if (keepGoing)
+			report.print(System.out, rejectFile);
+	}
+
+	/**
+	 * Converts the records of a timecode records file in order, to text or to another records file
+	 */
+	private static void convertRecordsFile(File inputFile, File outputFile, File rejectFile) throws Exception {
+		report = new ConversionReport();
+		try (TimecodeRecordReader reader = TimecodeRecordReader.open(inputFile.toPath());
+			 AsciiTimecodeWriter writer = binaryOutput ? null : textOutput(outputFile);
+			 RecordsOutput records = binaryOutput ? new RecordsOutput(outputFile, reader.getFrameRateType()) : null;
+			 Writer rejects = rejectFile == null ? null : new BufferedWriter(new FileWriter(rejectFile))) {
+			FrameRateType frameRateType = reader.getFrameRateType();
+			for (long index = 0; index < reader.size(); index++) {
+				// from the units, since the frame count of 23:59:59;29 on 30DF is the limit of the frame rate
+				int units = reader.getUnits(index);
+				long packedTimecode = PackedTimecode.tryPack(frameRateType, TimecodeBatch.hoursOf(units),
+															 TimecodeBatch.minutesOf(units),
+															 TimecodeBatch.secondsOf(units),
+															 TimecodeBatch.framesOf(units));
+				if (PackedTimecode.isError(packedTimecode)) {
+					if (rejects == null)
+						throw TimecodeException.stackless(PackedTimecode.errorCase(packedTimecode));
+					report.rejected(index + 1, PackedTimecode.errorCase(packedTimecode),
+									Integer.toString(reader.getFrameCount(index)), rejects);
+				}
+				else {
+					if (records != null)
+						records.writePacked(packedTimecode);
+					else
+						writer.write(packedTimecode);
+					report.converted();
+				}
 			}
+		}
+	}
 
-			frameRate = stk.nextToken();
-			value = stk.nextToken();
-			timecodes.add(TimecodeString.of(frameRate, value));
+	private static void convertTimecodesFileByLines(File inputFile, File outputFile, File rejectFile)
+			throws Exception {
+		report = new ConversionReport();
+		boolean gzipInput = GzipFiles.isGzipped(inputFile);
+		long inputLength = gzipInput ? GzipFiles.uncompressedLength(inputFile) : inputFile.length();
+		Reader input = gzipInput ? new InputStreamReader(GzipFiles.newInputStream(inputFile)) : new FileReader(inputFile);
+		try (BufferedReader reader = new BufferedReader(input);
+			 AsciiTimecodeWriter writer = binaryOutput ? null : textOutput(outputFile);
+			 RecordsOutput records = binaryOutput ? new RecordsOutput(outputFile, DEFAULT_RECORDS_FRAME_RATE) : null;
+			 Writer rejects = rejectFile == null ? null : new BufferedWriter(new FileWriter(rejectFile))) {
+			if (threads > 1)
+				convertLinesInParallel(reader, writer, records, rejects, chunkSize(inputLength, threads));
+			else
+				convertLines(reader, writer, records, rejects);
 		}
-		scanner.close();
 	}
 
-	private static void writeTimecodesToFile() throws Exception {
-		File outputFile = new File(outputFilePath);
+	private static AsciiTimecodeWriter textOutput(File outputFile) throws IOException {
+		AsciiTimecodeWriter writer;
+		if (GzipFiles.isGzipped(outputFile))
+			writer = new AsciiTimecodeWriter(Channels.newChannel(GzipFiles.newOutputStream(outputFile, fsync)),
+											 bufferSize);
+		else
+			writer = AsciiTimecodeWriter.open(outputFile.toPath(), bufferSize, fsync);
+		return writer;
+	}
 
-		PrintWriter printWriter = new PrintWriter(new FileOutputStream(outputFile));
-		for (TimecodeString timecodeString : timecodes)
-			printWriter.println(timecodeString.getFullTimecodeString());
-		printWriter.close();
-		System.out.println("Timecode string conversion successfully dumped to " + outputFile.getAbsolutePath());
+	private static void convertLines(BufferedReader reader, AsciiTimecodeWriter writer, RecordsOutput records,
+			Writer rejects) throws Exception {
+		List<String> chunk = readChunk(reader, MIN_CHUNK_SIZE);
+		while (! chunk.isEmpty()) {
+			writeChunk(convertChunk(chunk), writer, records, rejects);
+			chunk = readChunk(reader, MIN_CHUNK_SIZE);
+		}
+	}
+
+	/**
+	 * Splits the lines of the input in chunks that are converted by a pool
+	 * of <tt>threads</tt>. Only a bounded number of chunks are read ahead of the
+	 * one being written, which are written in the same order of the input.
+	 */
+	private static void convertLinesInParallel(BufferedReader reader, AsciiTimecodeWriter writer, RecordsOutput records,
+			Writer rejects, int chunkSize) throws Exception {
+		int maxChunksInFlight = threads * 2;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		Deque<Future<ConvertedChunk>> chunksInFlight = new ArrayDeque<>(maxChunksInFlight);
+
+		try {
+			List<String> chunk = readChunk(reader, chunkSize);
+			while (! chunk.isEmpty()) {
+				if (chunksInFlight.size() == maxChunksInFlight)
+					writeChunk(waitFor(chunksInFlight.removeFirst()), writer, records, rejects);
+				List<String> lines = chunk;
+				chunksInFlight.addLast(executor.submit(() -> convertChunk(lines)));
+				chunk = readChunk(reader, chunkSize);
+			}
+			while (! chunksInFlight.isEmpty())
+				writeChunk(waitFor(chunksInFlight.removeFirst()), writer, records, rejects);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Chooses a number of lines per chunk so that every thread receives several chunks,
+	 * keeping all of them busy even if some chunks are slower, but bounded so that
+	 * chunks in flight don't take too much memory on big files.
+	 */
+	private static int chunkSize(long inputFileLength, int threads) {
+		long estimatedLines = inputFileLength / ESTIMATED_LINE_LENGTH;
+		long chunkSize = estimatedLines / ((long) threads * CHUNKS_PER_THREAD);
+		return (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, chunkSize));
+	}
+
+	private static List<String> readChunk(BufferedReader reader, int chunkSize) throws IOException {
+		List<String> chunk = new ArrayList<>(chunkSize);
+		String line;
+		while (chunk.size() < chunkSize && (line = reader.readLine()) != null)
+			chunk.add(line);
+		return chunk;
+	}
+
+	private static ConvertedChunk convertChunk(List<String> lines) throws TimecodeException {
+		ConvertedChunk convertedChunk = new ConvertedChunk(lines);
+		for (int i = 0; i < lines.size(); i++) {
+			long packedTimecode = tryConvertLine(lines.get(i));
+			if (PackedTimecode.isError(packedTimecode) && ! keepGoing)
+				throw TimecodeException.stackless(PackedTimecode.errorCase(packedTimecode));
+			else if (PackedTimecode.isError(packedTimecode))
+				convertedChunk.errorCases[i] = PackedTimecode.errorCase(packedTimecode);
+			else
+				convertedChunk.packedTimecodes[i] = packedTimecode;
+		}
+		return convertedChunk;
+	}
+
+	private static void writeChunk(ConvertedChunk chunk, AsciiTimecodeWriter writer, RecordsOutput records,
+			Writer rejects) throws IOException, TimecodeException {
+		for (int i = 0; i < chunk.lines.size(); i++) {
+			ErrorCase errorCase = chunk.errorCases[i];
+			if (errorCase == null && records != null && ! records.accepts(chunk.packedTimecodes[i])) {
+				if (! keepGoing)
+					throw TimecodeException.stackless(MIXED_FRAME_RATES);
+				errorCase = MIXED_FRAME_RATES;
+			}
+
+			if (errorCase != null) {
+				if (records != null)
+					records.requested(chunk.lines.get(i));
+				report.rejected(report.getLines() + 1, errorCase, chunk.lines.get(i), rejects);
+			}
+			else {
+				if (records != null)
+					records.writePacked(chunk.packedTimecodes[i]);
+				else
+					writer.write(chunk.packedTimecodes[i]);
+				report.converted();
+			}
+		}
+	}
+
+	private static ConvertedChunk waitFor(Future<ConvertedChunk> chunk) throws Exception {
+		try {
+			return chunk.get();
+		}
+		catch (ExecutionException exception) {
+			Throwable cause = exception.getCause();
+			throw cause instanceof Exception ? (Exception) cause : exception;
+		}
+	}
+
+	/**
+	 * Converts a line, <tt>&lt;frame_rate&gt; &lt;value&gt;</tt>, without throwing exceptions
+	 *
+	 * @return The packed timecode, or a negative number with the error case if the line is not valid
+	 */
+	private static long tryConvertLine(String line) {
+		StringTokenizer stk = new StringTokenizer(line, " ");
+		long packedTimecode;
+		if (stk.countTokens() != 2)
+			packedTimecode = PackedTimecode.error(INVALID_LINE_FORMAT);
+		else
+			packedTimecode = PackedTimecode.tryParse(stk.nextToken(), stk.nextToken());
+		return packedTimecode;
+	}
+
+	/**
+	 * Lines of a chunk with their packed timecode or the error case that rejected them
+	 */
+	private static final class ConvertedChunk {
+
+		private final List<String> lines;
+		private final long[] packedTimecodes;
+		private final ErrorCase[] errorCases;
+
+		private ConvertedChunk(List<String> lines) {
+			this.lines = lines;
+			packedTimecodes = new long[lines.size()];
+			errorCases = new ErrorCase[lines.size()];
+		}
+	}
+
+	/**
+	 * Output timecode records file, whose header is written with the frame rate of the first timecode,
+	 * or on closing with the frame rate requested by the first rejected line or the default one
+	 * if none was written, so that the file can always be read back
+	 */
+	private static final class RecordsOutput implements Closeable {
+
+		private final FileChannel channel;
+		private FrameRateType emptyFrameRateType;
+		private boolean frameRateRequested;
+		private TimecodeRecordWriter writer;
+
+		private RecordsOutput(File outputFile, FrameRateType defaultFrameRateType) throws IOException {
+			channel = FileChannel.open(outputFile.toPath(), CREATE, WRITE, TRUNCATE_EXISTING);
+			emptyFrameRateType = defaultFrameRateType;
+		}
+
+		/**
+		 * @return <tt>true</tt> if the packed timecode is of the frame rate of the file, or it's the first one
+		 */
+		private boolean accepts(long packedTimecode) {
+			return writer == null || writer.getFrameRateType() == PackedTimecode.frameRateType(packedTimecode);
+		}
+
+		private void writePacked(long packedTimecode) throws IOException {
+			if (writer == null)
+				writer = new TimecodeRecordWriter(channel, PackedTimecode.frameRateType(packedTimecode));
+			writer.writePacked(packedTimecode);
+		}
+
+		/**
+		 * Remembers the frame rate of the first rejected line that has a valid one,
+		 * to write the header with it if no timecode is written
+		 */
+		private void requested(String line) {
+			StringTokenizer stk = new StringTokenizer(line, " ");
+			if (writer == null && ! frameRateRequested && stk.hasMoreTokens()) {
+				FrameRateType frameRateType = FrameRateType.tryFromString(stk.nextToken());
+				if (frameRateType != null) {
+					emptyFrameRateType = frameRateType;
+					frameRateRequested = true;
+				}
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				if (writer == null)
+					writer = new TimecodeRecordWriter(channel, emptyFrameRateType);
+				writer.flush();
+				if (fsync)
+					channel.force(true);
+			}
+			finally {
+				channel.close();
+			}
+		}
 	}
 }
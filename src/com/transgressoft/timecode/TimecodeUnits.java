@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Conversions between the frame count of a timecode and its hours, minutes, seconds and frames,
+ * packed in one <tt>int</tt> with one byte each.
+ *
+ * <p>The units are packed like the ones of {@link TimecodeBatch#countUnits(FrameRateType, int[], int[])}
+ * and of the records files, but for an offset on the hours: the timecodes keep the units of the
+ * results of a subtraction under zero, whose hours are negative, and a zero value marks the units
+ * that have not been derived yet. The units of the batches are only of valid timecodes, so they are
+ * written without the offset, see {@link #withoutHoursOffset(int)}.</p>
+ *
+ * <p>The conversions run the same code for every frame rate, without switching on it: the
+ * divisions by the values of the frame rate are multiplications by their inverses, computed
+ * when the {@link FrameRateType} is created, like the JIT does with the divisions by constants,
+ * and the drop frame terms are multiplied by the number of dropped frames, zero on non drop frame
+ * rates, instead of branching on it. So a batch that alternates frame rates, and the classes of
+ * their timecodes, runs as fast as a batch of the same frame rates grouped, 30DF among them. Only
+ * the timecodes of a single class can be scalar replaced by the JIT when they are not kept.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class TimecodeUnits {
+
+	/**
+	 * Packed units value of units that have not been derived yet.
+	 * A packed value is never zero since the hours are stored with an offset.
+	 */
+	static final int NOT_DERIVED = 0;
+
+	/**
+	 * Offset of the packed hours, which are negative on the result of a subtraction under zero
+	 */
+	private static final int HOURS_OFFSET = 128;
+
+	private TimecodeUnits() {}
+
+	static int pack(int hours, int minutes, int seconds, int frames) {
+		return TimecodeBatch.packUnits(hours + HOURS_OFFSET, minutes, seconds, frames);
+	}
+
+	static int hours(int units) {
+		return TimecodeBatch.hoursOf(units) - HOURS_OFFSET;
+	}
+
+	static int minutes(int units) {
+		return TimecodeBatch.minutesOf(units);
+	}
+
+	static int seconds(int units) {
+		return TimecodeBatch.secondsOf(units);
+	}
+
+	static int frames(int units) {
+		return TimecodeBatch.framesOf(units);
+	}
+
+	/**
+	 * @return The given units of a valid timecode packed like the ones of {@link TimecodeBatch}
+	 */
+	static int withoutHoursOffset(int units) {
+		return units - (HOURS_OFFSET << 24);
+	}
+
+	/**
+	 * @return The frame count of the given units of a timecode of the given frame rate
+	 */
+	static int countFrames(FrameRateType frameRateType, int hours, int minutes, int seconds, int frames) {
+		int totalMinutes = hours * 60 + minutes;
+		int frameCount = (totalMinutes * 60 + seconds) * frameRateType.getFrameMax() + frames;
+		// zero on non drop frame rates, without branching on it
+		return frameCount - frameRateType.getDropFrames() * (totalMinutes - totalMinutes / 10);
+	}
+
+	/**
+	 * @return The packed units of the given frame count of a timecode of the given frame rate
+	 */
+	static int fromFrameCount(FrameRateType frameRateType, int frameCount) {
+		return fromLabelFrames(frameRateType, labelFrames(frameRateType, frameCount));
+	}
+
+	/**
+	 * @return The packed units of the result of a subtraction under zero, counted back from the end
+	 *         of the day by the given negative difference. Its hours are not meaningful.
+	 */
+	static int underZero(FrameRateType frameRateType, int difference) {
+		// the frames of a whole day, which the frame count limit of 30DF falls one short of
+		int dayFrames = 24 * 6 * frameRateType.getFramesPerTenMinutes();
+		return fromFrameCount(frameRateType, dayFrames + difference);
+	}
+
+	/**
+	 * Reverse drop frame calculation, see {@link FrameRateType#labelFrames(int)}
+	 */
+	static int labelFrames(FrameRateType frameRateType, int frameCount) {
+		int dropFrames = frameRateType.getDropFrames();
+		int tenMinutes = frameRateType.getFramesPerTenMinutesDivisor().divide(frameCount);
+		int modulus = frameCount - tenMinutes * frameRateType.getFramesPerTenMinutes();
+		int minutes = frameRateType.getFramesPerMinuteDivisor().divide(Math.max(modulus - dropFrames, 0));
+		// zero on non drop frame rates, without branching on it
+		return frameCount + 9 * dropFrames * tenMinutes + dropFrames * minutes;
+	}
+
+	private static int fromLabelFrames(FrameRateType frameRateType, int labelFrames) {
+		int totalSeconds = frameRateType.getFrameMaxDivisor().divide(labelFrames);
+		int totalMinutes = totalSeconds / 60;
+		return pack(totalMinutes / 60, totalMinutes % 60, totalSeconds % 60,
+					labelFrames - totalSeconds * frameRateType.getFrameMax());
+	}
+
+	/**
+	 * Division by a value of a frame rate as a multiplication by <tt>ceil(2^shift / divisor)</tt>
+	 * followed by a right shift, like the JIT compiles the divisions by constants. It is exact
+	 * for dividends of up to {@link #DIVIDEND_BITS} bits, well above any frame count. The
+	 * <tt>VectorUnitsCounter</tt> applies the same multiplier and shift to lanes of frame counts.
+	 */
+	static final class Divisor {
+
+		private static final int DIVIDEND_BITS = 25;
+
+		private final int divisor;
+		private final long multiplier;
+		private final int shift;
+
+		Divisor(int divisor) {
+			this.divisor = divisor;
+			shift = DIVIDEND_BITS + 32 - Integer.numberOfLeadingZeros(divisor - 1);
+			multiplier = ((1L << shift) + divisor - 1) / divisor;
+		}
+
+		int divide(int dividend) {
+			return (int) (dividend * multiplier >>> shift);
+		}
+
+		int getDivisor() {
+			return divisor;
+		}
+
+		long getMultiplier() {
+			return multiplier;
+		}
+
+		int getShift() {
+			return shift;
+		}
+	}
+}
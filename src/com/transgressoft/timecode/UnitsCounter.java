@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+/**
+ * Bulk conversion of frame counts to the hours, minutes, seconds and frames of their
+ * timecodes, packed in an <tt>int</tt> as described in {@link TimecodeBatch#countUnits}.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+interface UnitsCounter {
+
+	/**
+	 * Name of the system property that disables the vectorized implementation when set to <tt>false</tt>
+	 */
+	String VECTOR_PROPERTY = "timecode.vector";
+
+	/**
+	 * Counts the units of <tt>length</tt> frame counts starting at <tt>from</tt>, which
+	 * must be between zero and the frame count limit of the frame rate
+	 */
+	void countUnits(FrameRateType frameRateType, int[] frameCounts, int from, int length, int[] units, int offset);
+
+	/**
+	 * Returns the vectorized implementation if the runtime provides the <tt>jdk.incubator.vector</tt>
+	 * module and it is not disabled by the {@link #VECTOR_PROPERTY} system property, or
+	 * the scalar one otherwise.
+	 */
+	static UnitsCounter create() {
+		UnitsCounter unitsCounter = new ScalarUnitsCounter();
+		if (Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) {
+			try {
+				Class<?> vectorUnitsCounterClass = Class.forName("com.transgressoft.timecode.VectorUnitsCounter");
+				unitsCounter = (UnitsCounter) vectorUnitsCounterClass.getDeclaredConstructor().newInstance();
+			}
+			catch (ReflectiveOperationException | LinkageError exception) {
+				// not compiled or not supported by the runtime, keep the scalar implementation
+			}
+		}
+		return unitsCounter;
+	}
+}
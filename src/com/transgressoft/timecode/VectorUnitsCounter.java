@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016, 2017 Octavio Calleya
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.transgressoft.timecode;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Implementation of {@link UnitsCounter} that converts several frame counts at a time
+ * with the incubator Vector API. It is only compiled by the <tt>vector</tt> Maven profile
+ * on JDK 16 or later, and only used when the <tt>jdk.incubator.vector</tt> module is added
+ * to the runtime, see {@link UnitsCounter#create()}.
+ *
+ * <p>The Vector API has no integer division, so divisions by constants are done as a
+ * multiplication by their fixed point inverse followed by a shift, on <tt>long</tt> lanes,
+ * with the {@link TimecodeUnits.Divisor} of the scalar conversions, precomputed by the
+ * {@link FrameRateType} for its values.</p>
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+final class VectorUnitsCounter implements UnitsCounter {
+
+	private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> INT_SPECIES = VectorSpecies.of(
+			int.class, VectorShape.forBitSize(LONG_SPECIES.vectorBitSize() / 2));
+
+	private static final TimecodeUnits.Divisor SIXTY = new TimecodeUnits.Divisor(60);
+	private static final TimecodeUnits.Divisor TWENTY_FOUR = new TimecodeUnits.Divisor(24);
+
+	private final ScalarUnitsCounter scalarUnitsCounter = new ScalarUnitsCounter();
+
+	@Override
+	public void countUnits(FrameRateType frameRateType, int[] frameCounts, int from, int length, int[] units,
+			int offset) {
+		TimecodeUnits.Divisor frameMax = frameRateType.getFrameMaxDivisor();
+		boolean dropFrame = frameRateType.isDropFrame();
+		TimecodeUnits.Divisor framesPerTenMinutes = frameRateType.getFramesPerTenMinutesDivisor();
+		TimecodeUnits.Divisor framesPerMinute = frameRateType.getFramesPerMinuteDivisor();
+		int dropFrames = frameRateType.getDropFrames();
+		int vectorLength = INT_SPECIES.loopBound(length);
+
+		for (int i = 0; i < vectorLength; i += INT_SPECIES.length()) {
+			IntVector frameCount = IntVector.fromArray(INT_SPECIES, frameCounts, from + i);
+			LongVector labelFrames = (LongVector) frameCount.convertShape(VectorOperators.I2L, LONG_SPECIES, 0);
+			if (dropFrame)
+				labelFrames = addDroppedFrames(labelFrames, framesPerTenMinutes, framesPerMinute, dropFrames);
+
+			LongVector totalSeconds = divide(labelFrames, frameMax);
+			LongVector totalMinutes = divide(totalSeconds, SIXTY);
+			LongVector totalHours = divide(totalMinutes, SIXTY);
+			LongVector frames = remainder(labelFrames, totalSeconds, frameMax);
+			LongVector seconds = remainder(totalSeconds, totalMinutes, SIXTY);
+			LongVector minutes = remainder(totalMinutes, totalHours, SIXTY);
+			LongVector hours = remainder(totalHours, divide(totalHours, TWENTY_FOUR), TWENTY_FOUR);
+
+			LongVector packedUnits = hours.lanewise(VectorOperators.LSHL, 24)
+										  .or(minutes.lanewise(VectorOperators.LSHL, 16))
+										  .or(seconds.lanewise(VectorOperators.LSHL, 8))
+										  .or(frames);
+			IntVector packedIntUnits = (IntVector) packedUnits.convertShape(VectorOperators.L2I, INT_SPECIES, 0);
+			packedIntUnits.intoArray(units, offset + i);
+		}
+		scalarUnitsCounter.countUnits(frameRateType, frameCounts, from + vectorLength, length - vectorLength, units,
+									  offset + vectorLength);
+	}
+
+	/**
+	 * Reverse drop frame calculation, the same as {@link FrameRateType#labelFrames(int)}
+	 */
+	private LongVector addDroppedFrames(LongVector frameCount, TimecodeUnits.Divisor framesPerTenMinutes,
+			TimecodeUnits.Divisor framesPerMinute, int dropFrames) {
+		LongVector blocks = divide(frameCount, framesPerTenMinutes);
+		LongVector modulus = remainder(frameCount, blocks, framesPerTenMinutes);
+		LongVector minutes = divide(modulus.sub(dropFrames).max(0), framesPerMinute);
+		return frameCount.add(blocks.mul(9L * dropFrames)).add(minutes.mul(dropFrames));
+	}
+
+	/**
+	 * Divides every lane like {@link TimecodeUnits.Divisor#divide(int)}
+	 */
+	private static LongVector divide(LongVector dividend, TimecodeUnits.Divisor divisor) {
+		return dividend.mul(divisor.getMultiplier()).lanewise(VectorOperators.LSHR, divisor.getShift());
+	}
+
+	private static LongVector remainder(LongVector dividend, LongVector quotient, TimecodeUnits.Divisor divisor) {
+		return dividend.sub(quotient.mul(divisor.getDivisor()));
+	}
+}
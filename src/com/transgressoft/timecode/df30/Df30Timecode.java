@@ -18,9 +18,6 @@ package com.transgressoft.timecode.df30;
 
 import com.transgressoft.timecode.*;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
-
 /**
  * Class that represents a {@link Timecode} implementation of
  * a Drop-Frame 30 (29.97 fps) video timecode.
@@ -31,128 +28,30 @@ import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
  */
 public class Df30Timecode extends TimecodeBase {
 
-	/**
-	 * Maximum amount of frames accepted, since the maximum value
-	 * of the Timecode can be 23:59:59:28
-	 */
-	private static final int FRAME_COUNT_LIMIT = 2589407;
-	private static final int FRAME_MAX = 30;
-
 	private Df30Timecode(int hours, int minutes, int seconds, int frames) {
-		super(hours, minutes, seconds, frames);countFrames(hours, minutes, seconds, frames);countFrames(hours, minutes, seconds, frames);
-		countFrames(hours, minutes, seconds, frames);
-		frameDropCalculation();
-	}
-
-	private void frameDropCalculation() {
-		int totalMinutes = hours * 60 + minutes;
-		frameCount = 108000 * hours + 1800 * minutes + 30 * seconds + frames;
-		frameCount -= 2 * (totalMinutes - totalMinutes / 10);
+		super(FrameRateType.DF30, hours, minutes, seconds, frames);
 	}
 
 	private Df30Timecode(int frameCount) {
-		super(frameCount);
-		countUnits(frameCount);
+		super(FrameRateType.DF30, frameCount);
 	}
 
-	@Override
-	protected void countUnits(int numberOfFrames) {
-		// reverse drop frame calculation
-		int totalFrames = numberOfFrames;
-
-		int division = totalFrames / 17982;
-		int modulus = totalFrames % 17982;
-		totalFrames += 18 * division + 2 * ((modulus - 2) / 1798);
-
-		frames = totalFrames % 30;
-		seconds = (totalFrames / 30) % 60;
-		minutes = (totalFrames / 1800) % 60;
-		hours = (totalFrames / 108000) % 24;
+	private Df30Timecode(int hours, int minutes, int seconds, int frames, int frameCount) {
+		super(FrameRateType.DF30, hours, minutes, seconds, frames, frameCount);
 	}
 
 	public static Df30Timecode of(int hours, int minutes, int seconds, int frames) {
-		boolean validValues = FrameRateType.DF30.areValidValues(hours, minutes, seconds, frames);
-		checkArgument(validValues, INVALID_TIMECODE.getErrorMessage(), hours, minutes, seconds, frames);
+		checkValues(FrameRateType.DF30, hours, minutes, seconds, frames);
 		return new Df30Timecode(hours, minutes, seconds, frames);
 	}
 
 	public static Df30Timecode of(int frameCount) {
+		checkFrameCount(FrameRateType.DF30, frameCount);
 		return new Df30Timecode(frameCount);
 	}
 
 	@Override
-	public Timecode add(Timecode timecode) throws TimecodeException {
-		if (! (timecode instanceof Df30Timecode))
-			throw new TimecodeException(INVALID_ADDITION);
-        addition(timecode);
-		return this;
-	}
-
-	@Override
-	public Timecode subtract(Timecode timecode) throws TimecodeException {
-		if (! (timecode instanceof Df30Timecode))
-			throw new TimecodeException(INVALID_SUBTRACTION);
-        subtraction(timecode);
-		return this;
-	}
-
-	@Override
-    protected void subtraction(Timecode timecode) throws TimecodeException {
-        frameCount -= timecode.getFrameCount();
-        if (frameCount > 0)
-            countUnits(frameCount);
-        else {
-            int oldHours = hours;
-            countUnits(FRAME_COUNT_LIMIT + frameCount);    // positive number of frames
-            frameAdditionCalculation();
-            hours = oldHours - timecode.getHours();
-        }
-
-        if (Math.abs(frameCount) >= FRAME_COUNT_LIMIT)
-            throw new TimecodeException(RESULT_LESSER_LIMIT);
-
-    }
-
-	private void frameAdditionCalculation() {
-		if (minutes % 10 == 0 && seconds != 0 && (frames == 29 || frames == 30))
-			carriage();
-		else
-			frames++;
-
-		if (frames == 30)
-			carriage();
-	}
-
-	private void carriage() {
-		frames = 0;
-		seconds++;
-		if (seconds == 60) {
-			seconds = 0;
-			minutes++;
-			if (minutes == 60) {
-				minutes = 0;
-				hours++;
-			}
-		}
-	}
-
-	@Override
-	public String getStringRepresentation() {
-		String timecodeStringRepresentation = "";
-		timecodeStringRepresentation += String.format("%02d", hours) + ":";
-		timecodeStringRepresentation += String.format("%02d", minutes) + ":";
-		timecodeStringRepresentation += String.format("%02d", seconds) + ";";
-		timecodeStringRepresentation += String.format("%02d", frames);
-		return timecodeStringRepresentation;
-	}
-
-	@Override
-	public int getFrameCountLimit() {
-		return FRAME_COUNT_LIMIT;
-	}
-
-	@Override
-	protected int getFrameMax() {
-		return FRAME_MAX;
+	protected Df30Timecode newInstance(int hours, int minutes, int seconds, int frames, int frameCount) {
+		return new Df30Timecode(hours, minutes, seconds, frames, frameCount);
 	}
 }
@@ -18,9 +18,6 @@ package com.transgressoft.timecode.fps25;
 
 import com.transgressoft.timecode.*;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
-
 /**
  * Class that represents a {@link Timecode} implementation of
  * a 25 fps video timecode.
@@ -31,58 +28,30 @@ import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
  */
 public class Fps25Timecode extends TimecodeBase {
 
-	/**
-	 * Maximum amount of frames accepted, since the maximum value
-	 * of the Timecode can be 23:59:59:24:
-	 *
-	 * <p>24 * 60 * 60 * 25 = 2 160 000</p>
-	 */
-	private static final int FRAME_COUNT_LIMIT = 2160000;
-	private static final int FRAME_MAX = 25;
-
 	private Fps25Timecode(int hours, int minutes, int seconds, int frames) {
-		super(hours, minutes, seconds, frames);
-		countFrames(hours, minutes, seconds, frames);
+		super(FrameRateType.FPS25, hours, minutes, seconds, frames);
 	}
 
 	private Fps25Timecode(int frameCount) {
-		super(frameCount);
-		countUnits(frameCount);
+		super(FrameRateType.FPS25, frameCount);
+	}
+
+	private Fps25Timecode(int hours, int minutes, int seconds, int frames, int frameCount) {
+		super(FrameRateType.FPS25, hours, minutes, seconds, frames, frameCount);
 	}
 
 	public static Fps25Timecode of(int hours, int minutes, int seconds, int frames) {
-		boolean validValues = FrameRateType.FPS25.areValidValues(hours, minutes, seconds, frames);
-		checkArgument(validValues, INVALID_TIMECODE.getErrorMessage(), hours, minutes, seconds, frames);
+		checkValues(FrameRateType.FPS25, hours, minutes, seconds, frames);
 		return new Fps25Timecode(hours, minutes, seconds, frames);
 	}
 
 	public static Fps25Timecode of(int frameCount) {
+		checkFrameCount(FrameRateType.FPS25, frameCount);
 		return new Fps25Timecode(frameCount);
 	}
 
 	@Override
-	public Timecode add(Timecode timecode) throws TimecodeException {
-		if (! (timecode instanceof Fps25Timecode))
-			throw new TimecodeException(INVALID_ADDITION);
-		addition(timecode);
-		return this;
-	}
-
-	@Override
-	public Timecode subtract(Timecode timecode) throws TimecodeException {
-		if (! (timecode instanceof Fps25Timecode))
-			throw new TimecodeException(INVALID_SUBTRACTION);
-		subtraction(timecode);
-		return this;
-	}
-
-	@Override
-	public int getFrameCountLimit() {
-		return FRAME_COUNT_LIMIT;
-	}
-
-	@Override
-	protected int getFrameMax() {
-		return FRAME_MAX;
+	protected Fps25Timecode newInstance(int hours, int minutes, int seconds, int frames, int frameCount) {
+		return new Fps25Timecode(hours, minutes, seconds, frames, frameCount);
 	}
 }
@@ -18,9 +18,6 @@ package com.transgressoft.timecode.fps30;
 
 import com.transgressoft.timecode.*;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
-
 /**
  * Class that represents a {@link Timecode} implementation of
  * a 30 fps video timecode.
@@ -31,58 +28,30 @@ import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
  */
 public class Fps30Timecode extends TimecodeBase {
 
-    /**
-     * Maximum amount of frames accepted, since the maximum value
-     * of the Timecode can be 23:59:59:29:
-     *
-     * <p>24 * 60 * 60 * 30 = 2 592 000</p>
-     */
-    private static final int FRAME_COUNT_LIMIT = 2592000;
-    private static final int FRAME_MAX = 30;
-
     private Fps30Timecode(int hours, int minutes, int seconds, int frames) {
-        super(hours, minutes, seconds, frames);
-        countFrames(hours, minutes, seconds, frames);
+        super(FrameRateType.FPS30, hours, minutes, seconds, frames);
     }
 
     private Fps30Timecode(int frameCount) {
-        super(frameCount);
-        countUnits(frameCount);
+        super(FrameRateType.FPS30, frameCount);
+    }
+
+    private Fps30Timecode(int hours, int minutes, int seconds, int frames, int frameCount) {
+        super(FrameRateType.FPS30, hours, minutes, seconds, frames, frameCount);
     }
 
     public static Fps30Timecode of(int hours, int minutes, int seconds, int frames) {
-        boolean validValues = FrameRateType.FPS30.areValidValues(hours, minutes, seconds, frames);
-        checkArgument(validValues, INVALID_TIMECODE.getErrorMessage(), hours, minutes, seconds, frames);
+        checkValues(FrameRateType.FPS30, hours, minutes, seconds, frames);
         return new Fps30Timecode(hours, minutes, seconds, frames);
     }
 
     public static Fps30Timecode of(int frameCount) {
+        checkFrameCount(FrameRateType.FPS30, frameCount);
         return new Fps30Timecode(frameCount);
     }
 
     @Override
-    public Timecode add(Timecode timecode) throws TimecodeException {
-        if (! (timecode instanceof Fps30Timecode))
-            throw new TimecodeException(INVALID_ADDITION);
-        addition(timecode);
-        return this;
-    }
-
-    @Override
-    public Timecode subtract(Timecode timecode) throws TimecodeException {
-        if (! (timecode instanceof Fps30Timecode))
-            throw new TimecodeException(INVALID_SUBTRACTION);
-        subtraction(timecode);
-        return this;
-    }
-
-    @Override
-    protected int getFrameMax() {
-        return FRAME_MAX;
-    }
-
-    @Override
-    public int getFrameCountLimit() {
-        return FRAME_COUNT_LIMIT;
+    protected Fps30Timecode newInstance(int hours, int minutes, int seconds, int frames, int frameCount) {
+        return new Fps30Timecode(hours, minutes, seconds, frames, frameCount);
     }
 }
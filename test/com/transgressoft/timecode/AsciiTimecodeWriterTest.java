@@ -0,0 +1,64 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link AsciiTimecodeWriter} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class AsciiTimecodeWriterTest {
+
+	private Path file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		file = Files.createTempFile("timecodes", ".txt");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	@DisplayName ("Timecodes written are read as lines")
+	void testWriteLines() throws Exception {
+		int[] frameCounts = new Random(42).ints(5000, 0, DF30.getFrameCountLimit()).toArray();
+		try (AsciiTimecodeWriter writer = AsciiTimecodeWriter.open(file, 64, true)) {
+			writer.write(PackedTimecode.pack(DF30, 1800));
+			writer.write(PackedTimecode.pack(FPS25, 10, 0, 0, 24));
+			writer.write(DF30, frameCounts, 0, frameCounts.length);
+		}
+
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(5002, lines.size());
+		assertEquals("00:01:00;02", lines.get(0));
+		assertEquals("10:00:00:24", lines.get(1));
+		for (int i = 0; i < frameCounts.length; i++)
+			assertEquals(GenericTimecode.of(DF30, frameCounts[i]).getStringRepresentation(), lines.get(i + 2));
+	}
+
+	@Test
+	@DisplayName ("Invalid buffer sizes, error codes or ranges throw exception")
+	void testInvalidArguments() throws Exception {
+		expectThrows(IllegalArgumentException.class, () -> AsciiTimecodeWriter.open(file, 8, false));
+		try (AsciiTimecodeWriter writer = new AsciiTimecodeWriter(FileChannel.open(file, StandardOpenOption.WRITE),
+																  AsciiTimecodeWriter.DEFAULT_BUFFER_SIZE, false)) {
+			expectThrows(IllegalArgumentException.class, () -> writer.write(PackedTimecode.error(INVALID_TIMECODE)));
+			expectThrows(IllegalArgumentException.class, () -> writer.write(FPS24, new int[2], 1, 2));
+			expectThrows(IllegalArgumentException.class, () -> writer.write(FPS24, new int[]{- 1}, 0, 1));
+		}
+		assertEquals(0, Files.size(file));
+	}
+}
@@ -0,0 +1,58 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConversionReport} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class ConversionReportTest {
+
+	@Test
+	@DisplayName ("Rejected lines are counted by error case and written with their line number")
+	void testRejectedLines() throws Exception {
+		ConversionReport report = new ConversionReport();
+		StringWriter rejects = new StringWriter();
+		report.converted();
+		report.rejected(2, INVALID_FRAME_RATE, "26fps 100", rejects);
+		report.rejected(3, INVALID_LINE_FORMAT, "25fps", rejects);
+		report.converted();
+		report.rejected(5, INVALID_FRAME_RATE, "fps 00:00:00:00", rejects);
+
+		assertEquals(2, report.getConvertedLines());
+		assertEquals(2, report.getRejectedLines(INVALID_FRAME_RATE));
+		assertEquals(1, report.getRejectedLines(INVALID_LINE_FORMAT));
+		assertEquals(0, report.getRejectedLines(INVALID_TIMECODE));
+		assertEquals(3, report.getRejectedLines());
+		assertEquals(5, report.getLines());
+
+		String separator = System.lineSeparator();
+		assertEquals("2 INVALID_FRAME_RATE 26fps 100" + separator + "3 INVALID_LINE_FORMAT 25fps" + separator +
+							 "5 INVALID_FRAME_RATE fps 00:00:00:00" + separator, rejects.toString());
+	}
+
+	@Test
+	@DisplayName ("Reports of the parts of a file are added")
+	void testAdd() throws Exception {
+		ConversionReport first = new ConversionReport();
+		ConversionReport second = new ConversionReport();
+		first.converted();
+		first.rejected(2, INVALID_TIMECODE, "25 00:00:00:25", new StringWriter());
+		second.converted();
+		second.converted();
+		second.rejected(1, INVALID_TIMECODE, "24 00:00:00:24", new StringWriter());
+
+		first.add(second);
+
+		assertEquals(3, first.getConvertedLines());
+		assertEquals(2, first.getRejectedLines(INVALID_TIMECODE));
+		assertEquals(5, first.getLines());
+	}
+}
@@ -0,0 +1,111 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EdlReader} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class EdlReaderTest {
+
+	static final String EDL = "TITLE: REEL 1\r\n" +
+			"FCM: NON-DROP FRAME\r\n" +
+			"\r\n" +
+			"001  AX       V     C        01:00:00:00 01:00:05:00 00:00:00:00 00:00:05:00\r\n" +
+			"* FROM CLIP NAME: CLIP 1\r\n" +
+			"002  AX       AA/V  D    025 01:00:05:00 01:00:10:00 00:00:05:00 00:00:10:00\r\n" +
+			"M2   AX       048.0                01:00:05:00\r\n" +
+			"FCM: DROP FRAME\r\n" +
+			"003  TAPE_0012 B    W001 030 00:01:00;02 00:01:01;00 00:00:10;00 00:00:10;28";
+
+	private EdlReader reader(String edl, FrameRateType frameRateType, int bufferSize) {
+		InputStream input = new ByteArrayInputStream(edl.getBytes(StandardCharsets.US_ASCII));
+		return new EdlReader(Channels.newChannel(input), frameRateType, bufferSize);
+	}
+
+	@Test
+	@DisplayName ("Reads the events")
+	void testEvents() throws Exception {
+		for (int bufferSize : new int[]{EdlReader.DEFAULT_BUFFER_SIZE, 7}) {
+			EdlReader reader = reader(EDL, FPS30, bufferSize);
+
+			assertTrue(reader.next());
+			assertEquals("REEL 1", reader.getTitle());
+			assertEquals(4, reader.getLineNumber());
+			assertEquals(1, reader.getEventNumber());
+			assertEquals("AX", reader.getReel().toString());
+			assertEquals("V", reader.getChannels().toString());
+			assertEquals("C", reader.getTransition().toString());
+			assertEquals(- 1, reader.getTransitionDuration());
+			assertEquals(FPS30, reader.getFrameRateType());
+			assertEquals(108000, reader.getSourceIn());
+			assertEquals(108150, reader.getSourceOut());
+			assertEquals(0, reader.getRecordIn());
+			assertEquals(150, reader.getRecordOut());
+
+			assertTrue(reader.next());
+			assertEquals(2, reader.getEventNumber());
+			assertEquals("AA/V", reader.getChannels().toString());
+			assertEquals("D", reader.getTransition().toString());
+			assertEquals(25, reader.getTransitionDuration());
+			assertEquals(108150, reader.getSourceIn());
+
+			assertTrue(reader.next());
+			assertEquals(9, reader.getLineNumber());
+			assertEquals("TAPE_0012", reader.getReel().toString());
+			assertEquals("W001", reader.getTransition().toString());
+			assertEquals(30, reader.getTransitionDuration());
+			assertEquals(DF30, reader.getFrameRateType());
+			assertEquals(1800, reader.getSourceIn());
+			assertEquals(300, reader.getRecordIn());
+			assertEquals(328, reader.getRecordOut());
+
+			assertFalse(reader.next());
+			assertFalse(reader.next());
+		}
+	}
+
+	@Test
+	@DisplayName ("Switches a drop frame rate to non drop frame")
+	void testNonDropFrame() throws Exception {
+		EdlReader reader = reader("FCM: NON-DROP FRAME\n001  AX V C 00:01:00:00 00:01:00:01 00:01:00:00 00:01:00:01\n",
+								  DF30, 16);
+
+		assertTrue(reader.next());
+		assertEquals(FPS29_97, reader.getFrameRateType());
+		assertEquals(1800, reader.getSourceIn());
+		assertFalse(reader.next());
+	}
+
+	@Test
+	@DisplayName ("Invalid lines throw exception")
+	void testInvalidLines() throws Exception {
+		EdlReader reader = reader("001  AX V C 01:00:00:00 01:00:05:00 00:00:00:00\n", FPS25, 64);
+		TimecodeException exception = expectThrows(TimecodeException.class, reader::next);
+		assertEquals(INVALID_EDL_LINE, exception.getErrorCase());
+		assertEquals(1, reader.getLineNumber());
+
+		reader = reader("\n001  AX V C 01:00:00:00 01:00:05:00 00:00:00:00 00:00:0a:00\n", FPS25, 64);
+		exception = expectThrows(TimecodeException.class, reader::next);
+		assertEquals(INVALID_TIMECODE, exception.getErrorCase());
+		assertEquals(2, reader.getLineNumber());
+
+		reader = reader("001  AX V C 01:00:00:00 01:00:05:00 00:00:00:00 00:00:00:25\n", FPS25, 64);
+		exception = expectThrows(TimecodeException.class, reader::next);
+		assertEquals(INVALID_TIMECODE, exception.getErrorCase());
+
+		reader = reader("FCM: DROP FRAME\n", FPS25, 64);
+		exception = expectThrows(TimecodeException.class, reader::next);
+		assertEquals(INVALID_FRAME_RATE, exception.getErrorCase());
+	}
+}
@@ -0,0 +1,79 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EdlWriter} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class EdlWriterTest {
+
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	@Test
+	@DisplayName ("Writes the events in the columns of CMX 3600")
+	void testWrite() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (EdlWriter writer = new EdlWriter(Channels.newChannel(output), DF30, 50)) {
+			writer.writeHeader("REEL 1");
+			writer.writeEvent(1, "AX", "V", "C", - 1, 1800, 1801, 0, 1);
+			writer.writeComment("FROM CLIP NAME: CLIP 1");
+			writer.writeEvent(1002, "TAPE_0012", "AA/V", "D", 25, 0, 30, 1, 31);
+		}
+
+		String expected = "TITLE: REEL 1" + LINE_SEPARATOR +
+				"FCM: DROP FRAME" + LINE_SEPARATOR +
+				LINE_SEPARATOR +
+				"001  AX       V     C        00:01:00;02 00:01:00;03 00:00:00;00 00:00:00;01" + LINE_SEPARATOR +
+				"* FROM CLIP NAME: CLIP 1" + LINE_SEPARATOR +
+				"1002  TAPE_0012 AA/V  D    025 00:00:00;00 00:00:01;00 00:00:00;01 00:00:01;01" + LINE_SEPARATOR;
+		assertEquals(expected, new String(output.toByteArray(), StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	@DisplayName ("The events written are read back")
+	void testRoundTrip() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (EdlWriter writer = new EdlWriter(Channels.newChannel(output), FPS24)) {
+			writer.writeHeader("ROUND TRIP");
+			for (int event = 1; event <= 1000; event++)
+				writer.writeEvent(event, "R" + event % 7, "V", "C", - 1, event * 100, event * 100 + 50,
+								  event * 50, event * 50 + 50);
+		}
+
+		InputStream input = new ByteArrayInputStream(output.toByteArray());
+		try (EdlReader reader = new EdlReader(Channels.newChannel(input), FPS24)) {
+			for (int event = 1; event <= 1000; event++) {
+				assertTrue(reader.next());
+				assertEquals(event, reader.getEventNumber());
+				assertEquals("R" + event % 7, reader.getReel().toString());
+				assertEquals(event * 100, reader.getSourceIn());
+				assertEquals(event * 100 + 50, reader.getSourceOut());
+				assertEquals(event * 50, reader.getRecordIn());
+				assertEquals(event * 50 + 50, reader.getRecordOut());
+			}
+			assertFalse(reader.next());
+			assertEquals("ROUND TRIP", reader.getTitle());
+		}
+	}
+
+	@Test
+	@DisplayName ("Frame counts out of the limits throw exception")
+	void testInvalidFrameCounts() {
+		EdlWriter writer = new EdlWriter(Channels.newChannel(new ByteArrayOutputStream()), FPS25);
+
+		expectThrows(IllegalArgumentException.class, () -> writer.writeEvent(1, "AX", "V", "C", - 1, - 1, 0, 0, 0));
+		expectThrows(IllegalArgumentException.class, () -> writer.writeEvent(1, "AX", "V", "C", - 1, 0, 0, 0,
+																			 FPS25.getFrameCountLimit()));
+		expectThrows(IllegalArgumentException.class, () -> writer.writeEvent(1, "AX", "V", "C", 1000, 0, 0, 0, 0));
+	}
+}
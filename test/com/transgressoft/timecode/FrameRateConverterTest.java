@@ -0,0 +1,181 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.math.*;
+import java.util.stream.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FrameRateConverter} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class FrameRateConverterTest {
+
+	@Nested
+	@DisplayName ("Speed change")
+	class SpeedChange {
+
+		@Test
+		@DisplayName ("Keeps the frame count")
+		void testSpeedChange() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.speedChange(FPS24, FPS25);
+
+			assertEquals(0, converter.convert(0));
+			assertEquals(1000, converter.convert(1000));
+			assertEquals("00:00:40:00", converter.convert(TimecodeFactory.createTimeCode(FPS24, 1000))
+												 .getStringRepresentation());
+		}
+
+		@Test
+		@DisplayName ("Relabels drop frame as non drop frame")
+		void testRelabel() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.speedChange(DF30, FPS29_97);
+			Timecode timecode = TimecodeFactory.createTimeCode(DF30, 0, 1, 0, 2);
+
+			assertEquals("00:01:00:00", converter.convert(timecode).getStringRepresentation());
+			assertEquals("00:10:00;00", FrameRateConverter.speedChange(FPS29_97, DF30)
+														  .convert(TimecodeFactory.createTimeCode(FPS29_97, 17982))
+														  .getStringRepresentation());
+		}
+
+		@Test
+		@DisplayName ("Results over the limit of the target frame rate throw exception")
+		void testResultGreaterLimit() {
+			FrameRateConverter converter = FrameRateConverter.speedChange(FPS25, FPS24);
+
+			TimecodeException exception = expectThrows(TimecodeException.class,
+													   () -> converter.convert(FPS24.getFrameCountLimit()));
+			assertEquals(RESULT_GREATER_LIMIT, exception.getErrorCase());
+			expectThrows(IllegalArgumentException.class, () -> converter.convert(- 1));
+			expectThrows(IllegalArgumentException.class, () -> converter.convert(FPS25.getFrameCountLimit()));
+		}
+	}
+
+	@Nested
+	@DisplayName ("2:3 pulldown")
+	class Pulldown {
+
+		@Test
+		@DisplayName ("Adds the pulldown from the A frame")
+		void testAddPulldown() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.pulldown(FPS24, FPS30, 0);
+			int[] frameCounts = IntStream.range(0, 9).toArray();
+			int[] results = new int[frameCounts.length];
+			converter.convert(frameCounts, results);
+
+			assertArrayEquals(new int[]{0, 1, 3, 4, 5, 6, 8, 9, 10}, results);
+			assertEquals(FPS30.getFrameCountLimit() - 1, converter.convert(FPS24.getFrameCountLimit() - 1));
+			assertEquals(0, converter.cadencePhase(0));
+			assertEquals(3, converter.cadencePhase(7));
+		}
+
+		@Test
+		@DisplayName ("Adds the pulldown from another phase of the cadence")
+		void testAddPulldownWithPhase() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.pulldown(FPS23_976, FPS29_97, 2);
+			int[] results = new int[5];
+			converter.convert(new int[]{0, 1, 2, 3, 4}, results);
+
+			assertArrayEquals(new int[]{0, 1, 2, 3, 5}, results);
+			assertEquals(2, converter.cadencePhase(0));
+			assertEquals(0, converter.cadencePhase(2));
+		}
+
+		@Test
+		@DisplayName ("Removes the pulldown")
+		void testRemovePulldown() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.pulldown(FPS30, FPS24, 0);
+			int[] results = new int[10];
+			converter.convert(IntStream.range(0, 10).toArray(), results);
+
+			assertArrayEquals(new int[]{0, 1, 1, 2, 3, 4, 5, 5, 6, 7}, results);
+			assertEquals(4, converter.cadencePhase(9));
+		}
+
+		@Test
+		@DisplayName ("Removing the pulldown restores the frames that were added")
+		void testRoundTrip() throws Exception {
+			for (int phase = 0; phase < 4; phase++) {
+				FrameRateConverter addition = FrameRateConverter.pulldown(FPS24, FPS30, phase);
+				FrameRateConverter removal = FrameRateConverter.pulldown(FPS30, FPS24, (phase * 5 + 2) / 4);
+				for (int frameCount = 0; frameCount < 1000; frameCount++)
+					assertEquals(frameCount, removal.convert(addition.convert(frameCount)));
+			}
+		}
+
+		@Test
+		@DisplayName ("Frame rates that are not 4:5 or phases out of the cadence throw exception")
+		void testInvalidPulldown() {
+			expectThrows(IllegalArgumentException.class, () -> FrameRateConverter.pulldown(FPS25, FPS30, 0));
+			expectThrows(IllegalArgumentException.class, () -> FrameRateConverter.pulldown(FPS24, FPS30, 4));
+			expectThrows(IllegalArgumentException.class, () -> FrameRateConverter.pulldown(FPS30, FPS24, 5));
+		}
+	}
+
+	@Nested
+	@DisplayName ("Real time")
+	class RealTime {
+
+		@Test
+		@DisplayName ("Rounds the frames between two target frames")
+		void testRounding() throws Exception {
+			assertEquals(13, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.HALF_UP).convert(12));
+			assertEquals(12, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.HALF_DOWN).convert(12));
+			assertEquals(12, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.HALF_EVEN).convert(12));
+			assertEquals(38, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.HALF_EVEN).convert(36));
+			assertEquals(37, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.FLOOR).convert(36));
+			assertEquals(38, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.CEILING).convert(36));
+			assertEquals(26, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.HALF_EVEN).convert(25));
+			assertEquals(25, FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.CEILING).convert(24));
+			expectThrows(IllegalArgumentException.class,
+						 () -> FrameRateConverter.realTime(FPS24, FPS25, RoundingMode.UNNECESSARY));
+		}
+
+		@Test
+		@DisplayName ("Uses the exact rates of the frame rates")
+		void testExactRates() throws Exception {
+			FrameRateConverter converter = FrameRateConverter.realTime(FPS30, DF30, RoundingMode.FLOOR);
+
+			assertEquals(1000, converter.convert(1001));
+			assertEquals(107892, converter.convert(108000));
+			assertEquals(4, FrameRateConverter.realTime(FPS29_97, FPS23_976, RoundingMode.FLOOR).convert(5));
+			assertEquals(1001, FrameRateConverter.realTime(FPS23_976, FPS24, RoundingMode.FLOOR).convert(1000));
+		}
+	}
+
+	@Test
+	@DisplayName ("Packed timecodes are converted without throwing exceptions")
+	void testPackedTimecodes() throws Exception {
+		FrameRateConverter converter = FrameRateConverter.speedChange(FPS24, FPS25);
+		long packedTimecode = PackedTimecode.pack(FPS24, 0, 0, 1, 0);
+
+		assertEquals("00:00:00:24", PackedTimecode.format(converter.convert(packedTimecode)));
+		assertEquals(INVALID_CONVERSION, PackedTimecode.errorCase(converter.tryConvert(PackedTimecode.pack(FPS25, 24))));
+		assertEquals(RESULT_LESSER_LIMIT, PackedTimecode.errorCase(
+				converter.tryConvert(PackedTimecode.error(RESULT_LESSER_LIMIT))));
+		TimecodeException exception = expectThrows(TimecodeException.class,
+												   () -> converter.convert(PackedTimecode.pack(FPS30, 24)));
+		assertEquals(INVALID_CONVERSION, exception.getErrorCase());
+
+		long[] results = converter.tryConvert(LongStream.of(packedTimecode, PackedTimecode.pack(DF30, 1))).toArray();
+		assertEquals(24, PackedTimecode.frameCount(results[0]));
+		assertEquals(FPS25, PackedTimecode.frameRateType(results[0]));
+		assertTrue(PackedTimecode.isError(results[1]));
+	}
+
+	@Test
+	@DisplayName ("Timecodes of other frame rates throw exception")
+	void testInvalidConversion() {
+		FrameRateConverter converter = FrameRateConverter.speedChange(FPS24, FPS25);
+
+		TimecodeException exception = expectThrows(TimecodeException.class,
+												   () -> converter.convert(TimecodeFactory.createTimeCode(FPS25, 1)));
+		assertEquals(INVALID_CONVERSION, exception.getErrorCase());
+	}
+}
@@ -0,0 +1,113 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FrameRateType} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class FrameRateTypeTest {
+
+	@Test
+	@DisplayName ("Frame rates are parsed by their names and aliases")
+	void testFromString() throws Exception {
+		for (FrameRateType frameRateType : FrameRateType.values())
+			assertEquals(frameRateType, FrameRateType.fromString(frameRateType.toString()));
+
+		assertEquals(FPS24, FrameRateType.fromString("24"));
+		assertEquals(FPS24, FrameRateType.fromString("24FPS"));
+		assertEquals(FPS25, FrameRateType.fromString("25"));
+		assertEquals(FPS25, FrameRateType.fromString("pal"));
+		assertEquals(FPS30, FrameRateType.fromString("30"));
+		assertEquals(DF30, FrameRateType.fromString("30df"));
+		assertEquals(DF30, FrameRateType.fromString("29.97DF"));
+		assertEquals(FPS23_976, FrameRateType.fromString("23.98"));
+		assertEquals(FPS29_97, FrameRateType.fromString("29.97ndf"));
+		assertEquals(FPS50, FrameRateType.fromString("50"));
+		assertEquals(DF60, FrameRateType.fromString("59.94df"));
+		assertEquals(FPS120, FrameRateType.fromString("120FPS"));
+	}
+
+	@Test
+	@DisplayName ("Repeated and alternated frame rates are parsed")
+	void testRepeatedFromString() throws Exception {
+		String frameRate = "25fps";
+		for (int i = 0; i < 3; i++) {
+			assertEquals(FPS25, FrameRateType.fromString(frameRate));
+			assertEquals(FPS25, FrameRateType.fromString((CharSequence) frameRate));
+			assertEquals(DF30, FrameRateType.fromString(new StringBuilder("30DF")));
+			assertEquals(DF30, FrameRateType.fromString(new String("30DF")));
+		}
+	}
+
+	@Test
+	@DisplayName ("Frame rate values are derived from the rate and the dropped frames")
+	void testFrameRateValues() {
+		assertEquals(24, FPS23_976.getFrameMax());
+		assertEquals(2073600, FPS23_976.getFrameCountLimit());
+		assertEquals(5178816, DF60.getFrameCountLimit());
+		assertEquals(12, FPS120.getStringLength());
+		assertEquals(';', DF60.getFramesSeparator());
+
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int lastFrameCount = frameRateType.getFrameCountLimit() - 1;
+			int labelFrames = frameRateType.labelFrames(lastFrameCount);
+			int frameMax = frameRateType.getFrameMax();
+			assertEquals(lastFrameCount, frameRateType.countFrames(labelFrames / (3600 * frameMax),
+																   labelFrames / (60 * frameMax) % 60,
+																   labelFrames / frameMax % 60, labelFrames % frameMax));
+		}
+	}
+
+	@Test
+	@DisplayName ("Ordinal constants match the frame rates declared as constants")
+	void testOrdinals() {
+		assertEquals(FPS24_ORDINAL, FPS24.ordinal());
+		assertEquals(FPS25_ORDINAL, FPS25.ordinal());
+		assertEquals(FPS30_ORDINAL, FPS30.ordinal());
+		assertEquals(DF30_ORDINAL, DF30.ordinal());
+		assertEquals(FPS23_976_ORDINAL, FPS23_976.ordinal());
+		assertEquals(FPS29_97_ORDINAL, FPS29_97.ordinal());
+		assertEquals(FPS48_ORDINAL, FPS48.ordinal());
+		assertEquals(FPS50_ORDINAL, FPS50.ordinal());
+		assertEquals(DF60_ORDINAL, DF60.ordinal());
+		assertEquals(FPS60_ORDINAL, FPS60.ordinal());
+		assertEquals(FPS120_ORDINAL, FPS120.ordinal());
+	}
+
+	@Test
+	@DisplayName ("Custom frame rates are registered with their names and aliases")
+	void testRegister() throws Exception {
+		FrameRateType fps12 = FrameRateType.register("12fps", 12, 1, 0, "12");
+
+		assertEquals(fps12, FrameRateType.fromString("12FPS"));
+		assertEquals(fps12, FrameRateType.fromString("12"));
+		assertEquals(fps12, FrameRateType.values()[fps12.ordinal()]);
+		assertEquals("00:00:01:00", TimecodeFactory.createTimeCode(fps12, 12).getStringRepresentation());
+
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> FrameRateType.register("pal", 25, 1, 0));
+		assertEquals("Frame rate pal is already registered", exception.getMessage());
+		expectThrows(IllegalArgumentException.class, () -> FrameRateType.register("240fps", 240, 1, 0));
+	}
+
+	@Test
+	@DisplayName ("Invalid frame rates throw exception")
+	void testInvalidFromString() {
+		List<String> invalidFrameRates = Arrays.asList("", "F", "DF", "0DF", "30D", "30DFX", "23", "2", "24f",
+													   "25fpx", "3fps", "29.9", "29.97NDX", "PAX", "GH45",
+													   "59.94", "120DF");
+		for (String frameRate : invalidFrameRates) {
+			TimecodeException exception = expectThrows(TimecodeException.class,
+													   () -> FrameRateType.fromString(frameRate));
+			assertEquals("Invalid frame rate format", exception.getMessage());
+		}
+	}
+}
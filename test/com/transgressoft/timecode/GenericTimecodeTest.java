@@ -0,0 +1,77 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link GenericTimecode} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class GenericTimecodeTest extends TimecodeTestBase {
+
+	@Test
+	@DisplayName ("Frame rates without their own class create generic timecodes")
+	void testGenericTimecodes() {
+		Timecode timecode = TimecodeFactory.createTimeCode(FPS50, 1, 2, 3, 49);
+
+		assertTrue(timecode instanceof GenericTimecode);
+		assertEquals(FPS50, timecode.getFrameRateType());
+		assertTimecodeOperationWithUnits("01:02:03:49", 1, 2, 3, 49, 186199, timecode);
+		assertEquals(timecode, TimecodeFactory.createTimeCode(FPS50, 186199));
+	}
+
+	@Test
+	@DisplayName ("Timecodes of different frame rates with the same units are not equal")
+	void testDifferentFrameRatesNotEqual() {
+		Timecode fps24Timecode = TimecodeFactory.createTimeCode(FPS24, 1, 0, 0, 0);
+		Timecode fps23976Timecode = TimecodeFactory.createTimeCode(FPS23_976, 1, 0, 0, 0);
+
+		assertEquals(fps24Timecode.getFrameCount(), fps23976Timecode.getFrameCount());
+		assertNotEquals(fps24Timecode, fps23976Timecode);
+		assertNotEquals(fps23976Timecode, fps24Timecode);
+	}
+
+	@Test
+	@DisplayName ("59.94 drop frame addition skips the dropped labels")
+	void testDropFrame60Addition() throws Exception {
+		Timecode timecode = TimecodeFactory.createTimeCode(DF60, 0, 0, 59, 59);
+		Timecode frame = TimecodeFactory.createTimeCode(DF60, 1);
+
+		assertTimecodeOperationWithUnits("00:00:59;59 + 1", 0, 1, 0, 4, 3600, timecode.add(frame));
+	}
+
+	@Test
+	@DisplayName ("Subtraction under zero")
+	void testSubtractionUnderZero() throws Exception {
+		Timecode timecode = TimecodeFactory.createTimeCode(DF60, 0, 0, 0, 0);
+		Timecode frame = TimecodeFactory.createTimeCode(DF60, 1);
+
+		assertTimecodeOperationWithUnits("00:00:00;00 - 1", 0, 59, 59, 59, - 1, timecode.subtract(frame));
+	}
+
+	@Test
+	@DisplayName ("120 fps timecodes have three digit frames")
+	void testThreeDigitFrames() throws Exception {
+		Timecode timecode = TimecodeFactory.createTimeCode(FPS120, 23, 59, 59, 119);
+
+		assertEquals("23:59:59:119", timecode.getStringRepresentation());
+		assertEquals(FPS120.getFrameCountLimit() - 1, timecode.getFrameCount());
+		assertEquals("23:59:59:119", PackedTimecode.format(PackedTimecode.pack(FPS120, timecode.getFrameCount())));
+	}
+
+	@Test
+	@DisplayName ("Operations between different frame rates throw exception")
+	void testOperationsBetweenFrameRates() {
+		Timecode timecode = TimecodeFactory.createTimeCode(FPS50, 100);
+		Timecode otherTimecode = TimecodeFactory.createTimeCode(FPS48, 100);
+
+		TimecodeException exception = expectThrows(TimecodeException.class, () -> timecode.add(otherTimecode));
+		assertEquals(TimecodeException.ErrorCase.INVALID_ADDITION, exception.getErrorCase());
+		exception = expectThrows(TimecodeException.class, () -> timecode.subtract(otherTimecode));
+		assertEquals(TimecodeException.ErrorCase.INVALID_SUBTRACTION, exception.getErrorCase());
+	}
+}
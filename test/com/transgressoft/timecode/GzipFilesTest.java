@@ -0,0 +1,134 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link GzipFiles} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class GzipFilesTest {
+
+	private File file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		file = Files.createTempFile("timecodes", GzipFiles.EXTENSION).toFile();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file.toPath());
+	}
+
+	@Test
+	@DisplayName ("Bytes written gzipped are read decompressed")
+	void testWriteAndRead() throws Exception {
+		byte[] bytes = new byte[GzipFiles.BLOCK_SIZE * 10 + 123];
+		Random random = new Random(42);
+		for (int i = 0; i < bytes.length; i++)
+			bytes[i] = (byte) ('0' + random.nextInt(10));
+		try (OutputStream output = GzipFiles.newOutputStream(file, true)) {
+			output.write(bytes);
+		}
+		assertTrue(GzipFiles.isGzipped(file));
+		assertEquals(bytes.length, GzipFiles.uncompressedLength(file));
+
+		ByteArrayOutputStream read = new ByteArrayOutputStream();
+		try (InputStream input = GzipFiles.newInputStream(file)) {
+			assertEquals(bytes[0] & 0xFF, input.read());
+			read.write(bytes[0]);
+			byte[] buffer = new byte[1000];
+			int length;
+			while ((length = input.read(buffer, 0, buffer.length)) != - 1)
+				read.write(buffer, 0, length);
+			assertEquals(- 1, input.read());
+		}
+		assertArrayEquals(bytes, read.toByteArray());
+	}
+
+	@Test
+	@DisplayName ("Concatenated gzip members are read as one")
+	void testConcatenatedMembers() throws Exception {
+		try (OutputStream output = new FileOutputStream(file)) {
+			for (String part : new String[]{"25fps 100\n", "30DF 10:00:00;00\n"})
+				try (GZIPOutputStream member = new GZIPOutputStream(new FilterOutputStream(output) {
+
+					@Override
+					public void close() {}
+				})) {
+					member.write(part.getBytes());
+				}
+		}
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(GzipFiles.newInputStream(file)))) {
+			assertEquals("25fps 100", reader.readLine());
+			assertEquals("30DF 10:00:00;00", reader.readLine());
+			assertNull(reader.readLine());
+		}
+	}
+
+	@Test
+	@DisplayName ("Truncated or not gzipped files throw exception")
+	void testInvalidFiles() throws Exception {
+		byte[] bytes = new byte[GzipFiles.BLOCK_SIZE * 2];
+		new Random(42).nextBytes(bytes);
+		try (OutputStream output = GzipFiles.newOutputStream(file, false)) {
+			output.write(bytes);
+		}
+		byte[] gzipped = Files.readAllBytes(file.toPath());
+		Files.write(file.toPath(), Arrays.copyOf(gzipped, gzipped.length / 2));
+		try (InputStream input = GzipFiles.newInputStream(file)) {
+			expectThrows(IOException.class, () -> {
+				while (input.read(bytes, 0, bytes.length) != - 1);
+			});
+		}
+
+		Files.write(file.toPath(), "25fps 100\n".getBytes());
+		expectThrows(ZipException.class, () -> GzipFiles.newInputStream(file));
+	}
+
+	@Test
+	@DisplayName ("Runtime exceptions of the decompressing thread are thrown to the reader")
+	void testRuntimeExceptionWhileDecompressing() throws Exception {
+		IllegalStateException failure = new IllegalStateException("Failure");
+		InputStream failingInput = new InputStream() {
+
+			private int bytes = GzipFiles.BLOCK_SIZE * 2;
+
+			@Override
+			public int read() {
+				if (bytes-- == 0)
+					throw failure;
+				return '0';
+			}
+		};
+
+		try (InputStream input = GzipFiles.pipelined(failingInput)) {
+			byte[] bytes = new byte[1000];
+			IOException exception = expectThrows(IOException.class, () -> {
+				while (input.read(bytes, 0, bytes.length) != - 1);
+			});
+			assertSame(failure, exception.getCause());
+		}
+	}
+
+	@Test
+	@DisplayName ("Closing the input before its end stops decompression")
+	void testCloseBeforeEnd() throws Exception {
+		try (OutputStream output = GzipFiles.newOutputStream(file, false)) {
+			output.write(new byte[GzipFiles.BLOCK_SIZE * 50]);
+		}
+		InputStream input = GzipFiles.newInputStream(file);
+		assertEquals(0, input.read());
+		input.close();
+		assertTrue(Files.deleteIfExists(file.toPath()));
+	}
+}
@@ -0,0 +1,209 @@
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeException.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MappedFileConverter} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class MappedFileConverterTest {
+
+	private static final FrameRateType[] FRAME_RATES = {FrameRateType.FPS25, FrameRateType.DF30,
+														FrameRateType.FPS120, FrameRateType.FPS24};
+	private static final int LINES = 5000;
+	private static final int INVALID_LINES_INTERVAL = 97;
+
+	private Path directory;
+	private File input;
+	private File output;
+	private File rejects;
+	private List<String> expectedLines;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("mapped");
+		input = directory.resolve("input.txt").toFile();
+		output = directory.resolve("output.txt").toFile();
+		rejects = directory.resolve("rejects.txt").toFile();
+		writeInput(false);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files)
+				Files.delete(file);
+		}
+		Files.delete(directory);
+	}
+
+	/**
+	 * Writes lines of several frame rates, with two and three digit frames, and an invalid
+	 * line every {@link #INVALID_LINES_INTERVAL} lines if requested
+	 */
+	private void writeInput(boolean invalidLines) throws IOException {
+		Random random = new Random(42);
+		List<String> lines = new ArrayList<>();
+		expectedLines = new ArrayList<>();
+		for (int line = 1; line <= LINES; line++) {
+			if (invalidLines && line % INVALID_LINES_INTERVAL == 0)
+				lines.add("25fps 10:00:00:25");
+			else {
+				FrameRateType frameRateType = FRAME_RATES[random.nextInt(FRAME_RATES.length)];
+				long packedTimecode = PackedTimecode.pack(frameRateType,
+														  random.nextInt(frameRateType.getFrameCountLimit()));
+				String value = PackedTimecode.format(packedTimecode);
+				lines.add((line % 2 == 0 ? frameRateType.toString() : "  " + frameRateType) + " " + value +
+								  (line % 3 == 0 ? "\r" : ""));
+				expectedLines.add(value);
+			}
+		}
+		Files.write(input.toPath(), lines, StandardCharsets.US_ASCII);
+	}
+
+	@Test
+	@DisplayName ("Regions start at the beginning of a line")
+	void testRegionBoundaries() throws Exception {
+		MappedFileConverter converter = new MappedFileConverter(input, output, null, 7, 1024, false);
+		byte[] bytes = Files.readAllBytes(input.toPath());
+
+		try (FileChannel channel = FileChannel.open(input.toPath())) {
+			long[] boundaries = converter.regionBoundaries(channel);
+			assertEquals(8, boundaries.length);
+			assertEquals(0, boundaries[0]);
+			assertEquals(bytes.length, boundaries[boundaries.length - 1]);
+			for (int region = 1; region < boundaries.length - 1; region++) {
+				assertTrue(boundaries[region] > boundaries[region - 1]);
+				assertEquals('\n', bytes[(int) boundaries[region] - 1]);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Regions smaller than a line are skipped")
+	void testRegionBoundariesOfShortInput() throws Exception {
+		Files.write(input.toPath(), Collections.singletonList("25fps 10:00:00:00"), StandardCharsets.US_ASCII);
+		MappedFileConverter converter = new MappedFileConverter(input, output, null, 4, 1024, false);
+
+		try (FileChannel channel = FileChannel.open(input.toPath())) {
+			assertArrayEquals(new long[] {0, input.length()}, converter.regionBoundaries(channel));
+		}
+	}
+
+	@Test
+	@DisplayName ("The output of the regions is written in order")
+	void testRegionsWrittenInOrder() throws Exception {
+		for (int threads : new int[] {1, 2, 7}) {
+			ConversionReport report = new MappedFileConverter(input, output, null, threads, 1024, false).convert();
+
+			assertEquals(LINES, report.getConvertedLines());
+			assertEquals(expectedLines, Files.readAllLines(output.toPath()));
+			assertEquals(outputLength(expectedLines), output.length());
+		}
+	}
+
+	@Test
+	@DisplayName ("Gzipped parts of the regions are joined in order")
+	void testGzippedPartsJoined() throws Exception {
+		File gzipOutput = directory.resolve("output.txt" + GzipFiles.EXTENSION).toFile();
+		new MappedFileConverter(input, gzipOutput, null, 7, 1024, true).convert();
+
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(GzipFiles.newInputStream(gzipOutput)))) {
+			List<String> lines = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null)
+				lines.add(line);
+			assertEquals(expectedLines, lines);
+		}
+	}
+
+	@Test
+	@DisplayName ("Rejected lines are numbered from the start of the input")
+	void testRejectsRenumbered() throws Exception {
+		writeInput(true);
+		ConversionReport report = new MappedFileConverter(input, output, rejects, 7, 1024, false).convert();
+
+		assertEquals(LINES / INVALID_LINES_INTERVAL, report.getRejectedLines(ErrorCase.INVALID_TIMECODE));
+		assertEquals(LINES, report.getLines());
+		assertEquals(expectedLines, Files.readAllLines(output.toPath()));
+		List<String> rejectedLines = Files.readAllLines(rejects.toPath());
+		assertEquals(LINES / INVALID_LINES_INTERVAL, rejectedLines.size());
+		for (int i = 0; i < rejectedLines.size(); i++)
+			assertEquals((i + 1) * INVALID_LINES_INTERVAL + " INVALID_TIMECODE 25fps 10:00:00:25",
+						 rejectedLines.get(i));
+	}
+
+	@Test
+	@DisplayName ("Lines end at the same separators than the ones read line by line")
+	void testSameLinesAsReadLineByLine() throws Exception {
+		String[] separators = {"\n", "\r\n", "\r"};
+		Random random = new Random(42);
+		StringBuilder content = new StringBuilder();
+		for (String line : Files.readAllLines(input.toPath(), StandardCharsets.US_ASCII)) {
+			content.append(line.trim()).append(separators[random.nextInt(separators.length)]);
+			if (random.nextInt(50) == 0)
+				content.append("x").append(separators[random.nextInt(separators.length)]);
+		}
+		content.append("\r\r\n25fps 00:00:00:01\r");
+		Files.write(input.toPath(), content.toString().getBytes(StandardCharsets.US_ASCII));
+		File lineOutput = directory.resolve("lines.txt").toFile();
+		File lineRejects = directory.resolve("lines-rejects.txt").toFile();
+
+		TimecodeStringRunner.main(input.toString(), "-o", lineOutput.toString(), "-k", "-r", lineRejects.toString());
+		ConversionReport report = new MappedFileConverter(input, output, rejects, 7, 1024, false).convert();
+
+		assertTrue(report.getRejectedLines() > 2);
+		assertArrayEquals(Files.readAllBytes(lineOutput.toPath()), Files.readAllBytes(output.toPath()));
+		assertEquals(Files.readAllLines(lineRejects.toPath()), Files.readAllLines(rejects.toPath()));
+	}
+
+	@Test
+	@DisplayName ("Rejected lines split by a carriage return are numbered from the start of the input")
+	void testRejectsWithCarriageReturns() throws Exception {
+		StringBuilder content = new StringBuilder();
+		List<String> expectedRejects = new ArrayList<>();
+		for (int block = 0; block < LINES / 4; block++) {
+			content.append("25 00:00:00:01\rx\n31fps 00:00:00:00\r25 00:00:00:02\n");
+			expectedRejects.add((block * 4 + 2) + " INVALID_LINE_FORMAT x");
+			expectedRejects.add((block * 4 + 3) + " INVALID_FRAME_RATE 31fps 00:00:00:00");
+		}
+		Files.write(input.toPath(), content.toString().getBytes(StandardCharsets.US_ASCII));
+		File gzipOutput = directory.resolve("output.txt" + GzipFiles.EXTENSION).toFile();
+
+		for (File outputFile : new File[] {output, gzipOutput}) {
+			ConversionReport report = new MappedFileConverter(input, outputFile, rejects, 7, 1024, false).convert();
+
+			assertEquals(LINES, report.getLines());
+			assertEquals(LINES / 2, report.getConvertedLines());
+			assertEquals(expectedRejects, Files.readAllLines(rejects.toPath()));
+		}
+	}
+
+	@Test
+	@DisplayName ("Invalid line stops the conversion without a reject file")
+	void testInvalidLineWithoutRejects() throws Exception {
+		writeInput(true);
+		MappedFileConverter converter = new MappedFileConverter(input, output, null, 7, 1024, false);
+
+		TimecodeException exception = expectThrows(TimecodeException.class, converter::convert);
+		assertEquals(ErrorCase.INVALID_TIMECODE, exception.getErrorCase());
+	}
+
+	private long outputLength(List<String> lines) {
+		long length = 0;
+		for (String line : lines)
+			length += line.length() + System.lineSeparator().length();
+		return length;
+	}
+}
@@ -0,0 +1,205 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PackedTimecode} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class PackedTimecodeTest {
+
+	@Test
+	@DisplayName ("Packed units and string representation match the Timecode objects")
+	void testPackedTimecodesMatchTimecodes() {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			for (int frameCount = 0; frameCount < frameRateType.getFrameCountLimit(); frameCount += 199) {
+				long packedTimecode = PackedTimecode.pack(frameRateType, frameCount);
+				Timecode timecode = TimecodeFactory.createTimeCode(frameRateType, frameCount);
+
+				assertEquals(frameRateType, PackedTimecode.frameRateType(packedTimecode));
+				assertEquals(timecode.getFrameCount(), PackedTimecode.frameCount(packedTimecode));
+				assertEquals(timecode.getHours(), PackedTimecode.hours(packedTimecode));
+				assertEquals(timecode.getMinutes(), PackedTimecode.minutes(packedTimecode));
+				assertEquals(timecode.getSeconds(), PackedTimecode.seconds(packedTimecode));
+				assertEquals(timecode.getFrames(), PackedTimecode.frames(packedTimecode));
+				assertEquals(timecode.getStringRepresentation(), PackedTimecode.format(packedTimecode));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Packing by units and by frame count gives the same value")
+	void testPackByUnits() {
+		assertEquals(PackedTimecode.pack(FPS25, 121499), PackedTimecode.pack(FPS25, 1, 20, 59, 24));
+		assertEquals(PackedTimecode.pack(DF30, 279884), PackedTimecode.pack(DF30, 2, 35, 38, 24));
+		assertEquals("02:35:38;24", PackedTimecode.format(PackedTimecode.pack(DF30, 2, 35, 38, 24)));
+	}
+
+	@Test
+	@DisplayName ("Invalid values throw exception")
+	void testInvalidValues() {
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> PackedTimecode.pack(FPS24, 2073600));
+		assertEquals("Frame count is greater than limit 2073600", exception.getMessage());
+
+		exception = expectThrows(IllegalArgumentException.class, () -> PackedTimecode.pack(FPS24, - 1));
+		assertEquals("Frame count must be greater than zero", exception.getMessage());
+
+		exception = expectThrows(IllegalArgumentException.class, () -> PackedTimecode.pack(FPS25, 12, 50, 30, 25));
+		assertEquals("Invalid timecode value [12, 50, 30, 25]", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName ("Addition and subtraction")
+	void testAdditionAndSubtraction() throws Exception {
+		long packedTimecode = PackedTimecode.pack(DF30, 22, 59, 59, 24);
+		long packedTimecodeToAdd = PackedTimecode.pack(DF30, 0, 0, 0, 10);
+
+		long sum = PackedTimecode.add(packedTimecode, packedTimecodeToAdd);
+		assertEquals(PackedTimecode.pack(DF30, 23, 0, 0, 4), sum);
+		assertEquals(packedTimecode, PackedTimecode.subtract(sum, packedTimecodeToAdd));
+	}
+
+	@Test
+	@DisplayName ("Arithmetic out of limits or between different frame rates throws exception")
+	void testInvalidArithmetic() {
+		long fps25Timecode = PackedTimecode.pack(FPS25, 10, 0, 0, 0);
+		long fps24Timecode = PackedTimecode.pack(FPS24, 10, 0, 0, 0);
+		long otherFps25Timecode = PackedTimecode.pack(FPS25, 15, 0, 0, 0);
+
+		TimecodeException exception = expectThrows(TimecodeException.class,
+												   () -> PackedTimecode.add(fps25Timecode, fps24Timecode));
+		assertEquals(TimecodeException.ErrorCase.INVALID_ADDITION.getErrorMessage(), exception.getMessage());
+
+		exception = expectThrows(TimecodeException.class, () -> PackedTimecode.subtract(fps25Timecode, fps24Timecode));
+		assertEquals(TimecodeException.ErrorCase.INVALID_SUBTRACTION.getErrorMessage(), exception.getMessage());
+
+		exception = expectThrows(TimecodeException.class, () -> PackedTimecode.add(fps25Timecode, otherFps25Timecode));
+		assertEquals(TimecodeException.ErrorCase.RESULT_GREATER_LIMIT.getErrorMessage(), exception.getMessage());
+
+		exception = expectThrows(TimecodeException.class,
+								 () -> PackedTimecode.subtract(fps25Timecode, otherFps25Timecode));
+		assertEquals(TimecodeException.ErrorCase.RESULT_LESSER_LIMIT.getErrorMessage(), exception.getMessage());
+		assertEquals(TimecodeException.ErrorCase.RESULT_LESSER_LIMIT, exception.getErrorCase());
+		assertEquals(0, exception.getStackTrace().length);
+
+		assertEquals(TimecodeException.ErrorCase.INVALID_ADDITION,
+					 PackedTimecode.errorCase(PackedTimecode.tryAdd(fps25Timecode, fps24Timecode)));
+		assertEquals(TimecodeException.ErrorCase.RESULT_LESSER_LIMIT,
+					 PackedTimecode.errorCase(PackedTimecode.trySubtract(fps25Timecode, otherFps25Timecode)));
+	}
+
+	@Test
+	@DisplayName ("Try methods return the error case of invalid values")
+	void testTryMethods() {
+		assertEquals(PackedTimecode.pack(FPS25, 121499), PackedTimecode.tryPack(FPS25, 121499));
+		assertEquals(PackedTimecode.pack(DF30, 2, 35, 38, 24), PackedTimecode.tryPack(DF30, 2, 35, 38, 24));
+		assertNull(PackedTimecode.errorCase(PackedTimecode.tryPack(FPS25, 0)));
+
+		assertTryError(TimecodeException.ErrorCase.FRAME_COUNT_LESS_0, PackedTimecode.tryPack(FPS24, - 1));
+		assertTryError(TimecodeException.ErrorCase.FRAME_COUNT_GREATER_LIMIT, PackedTimecode.tryPack(FPS24, 2073600));
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryPack(FPS25, 12, 50, 30, 25));
+		assertTryError(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT, PackedTimecode.tryParse("25fps", "12:ab"));
+		assertTryError(TimecodeException.ErrorCase.INVALID_FRAME_RATE, PackedTimecode.tryParse("26fps", "252"));
+		assertTryError(TimecodeException.ErrorCase.FRAME_COUNT_GREATER_LIMIT,
+					   PackedTimecode.tryParse("25fps", "99999999999999"));
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryParse("30DF", "12:60:00;00"));
+	}
+
+	@Test
+	@DisplayName ("Parsing with and without exceptions gives the same results")
+	void testTryParseMatchesParse() {
+		String[] frameRates = {"25fps", "30DF", "pal", "F"};
+		String[] values = {"01:20:59:24", "02:35:38;24", "00:00:00:30", "23:59:59:24", "2589406", "2589407", "0",
+						   "12:ab:23;44", ""};
+		for (String frameRate : frameRates) {
+			for (String value : values) {
+				long packedTimecode = PackedTimecode.tryParse(frameRate, value);
+				try {
+					Timecode timecode = TimecodeParser.parse(frameRate, value);
+					assertEquals(timecode, PackedTimecode.toTimecode(packedTimecode), frameRate + " " + value);
+				}
+				catch (TimecodeException exception) {
+					assertEquals(exception.getErrorCase(), PackedTimecode.errorCase(packedTimecode));
+				}
+				catch (IllegalArgumentException exception) {
+					TimecodeException.ErrorCase errorCase = PackedTimecode.errorCase(packedTimecode);
+					assertTrue(exception.getMessage().startsWith(errorCase.getErrorMessage()), frameRate + " " + value);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Try methods and the ones that throw exceptions accept the same values")
+	void testTryMethodsMatchThrowingMethods() throws Exception {
+		Timecode lastDf30Frame = TimecodeParser.parse("30DF", "23:59:59;29");
+		long packedTimecode = PackedTimecode.tryParse("30DF", "23:59:59;29");
+		assertEquals(lastDf30Frame, PackedTimecode.toTimecode(packedTimecode));
+		assertEquals(PackedTimecode.pack(DF30, 23, 59, 59, 29), packedTimecode);
+		assertEquals("23:59:59;29", PackedTimecode.format(packedTimecode));
+
+		int limit = DF30.getFrameCountLimit();
+		assertTryError(TimecodeException.ErrorCase.FRAME_COUNT_GREATER_LIMIT, PackedTimecode.tryPack(DF30, limit));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeFactory.createTimeCode(DF30, limit));
+		expectThrows(IllegalArgumentException.class, () -> PackedTimecode.pack(DF30, limit));
+	}
+
+	@Test
+	@DisplayName ("Labels skipped by drop frame rates are not valid")
+	void testDroppedLabels() {
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryPack(DF30, 0, 1, 0, 0));
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryPack(DF30, 12, 59, 0, 1));
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryPack(DF60, 0, 1, 0, 3));
+		assertTryError(TimecodeException.ErrorCase.INVALID_TIMECODE, PackedTimecode.tryParse("30DF", "00:01:00;00"));
+		expectThrows(IllegalArgumentException.class, () -> PackedTimecode.pack(DF30, 0, 1, 0, 0));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeParser.parse("30DF", "00:01:00;01"));
+
+		assertEquals("00:01:00;02", PackedTimecode.format(PackedTimecode.pack(DF30, 0, 1, 0, 2)));
+		assertEquals("00:10:00;00", PackedTimecode.format(PackedTimecode.pack(DF30, 0, 10, 0, 0)));
+		assertEquals("00:01:00:00", PackedTimecode.format(PackedTimecode.pack(FPS30, 0, 1, 0, 0)));
+		assertEquals(PackedTimecode.pack(DF30, 1800), PackedTimecode.pack(DF30, 0, 1, 0, 2));
+	}
+
+	@Test
+	@DisplayName ("Invalid values throw exceptions without stack trace")
+	void testStacklessExceptions() {
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> TimecodeFactory.createTimeCode(FPS25, 1, 2, 3, 25));
+		assertEquals("Invalid timecode value [1, 2, 3, 25]", exception.getMessage());
+		assertEquals(0, exception.getStackTrace().length);
+		exception = expectThrows(IllegalArgumentException.class, () -> PackedTimecode.pack(FPS24, - 1));
+		assertEquals(0, exception.getStackTrace().length);
+		exception = expectThrows(IllegalArgumentException.class,
+								 () -> TimecodeBatch.countUnits(FPS30, new int[]{2592000}, new int[1]));
+		assertEquals(0, exception.getStackTrace().length);
+	}
+
+	private void assertTryError(TimecodeException.ErrorCase expectedErrorCase, long packedTimecode) {
+		assertTrue(PackedTimecode.isError(packedTimecode));
+		assertEquals(expectedErrorCase, PackedTimecode.errorCase(packedTimecode));
+	}
+
+	@Test
+	@DisplayName ("Comparison")
+	void testCompare() {
+		long earlier = PackedTimecode.pack(FPS30, 1, 59, 59, 29);
+		long later = PackedTimecode.pack(FPS30, 2, 0, 0, 0);
+
+		assertTrue(PackedTimecode.compare(earlier, later) < 0);
+		assertTrue(PackedTimecode.compare(later, earlier) > 0);
+		assertEquals(0, PackedTimecode.compare(later, PackedTimecode.pack(FPS30, 216000)));
+	}
+
+	@Test
+	@DisplayName ("Conversion to Timecode object")
+	void testToTimecode() {
+		long packedTimecode = PackedTimecode.pack(FPS24, 12, 5, 16, 23);
+		assertEquals(TimecodeFactory.createTimeCode(FPS24, 12, 5, 16, 23), PackedTimecode.toTimecode(packedTimecode));
+	}
+}
@@ -0,0 +1,148 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.nio.charset.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeBatch} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeBatchTest {
+
+	@Test
+	@DisplayName ("Byte records match the string representation of the Timecode objects")
+	void testFormatBytes() throws Exception {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int[] frameCounts = sampleFrameCounts(frameRateType);
+			int recordLength = TimecodeBatch.recordLength(frameRateType);
+			byte[] records = new byte[frameCounts.length * recordLength];
+			TimecodeBatch.format(frameRateType, frameCounts, records);
+
+			String recordsString = new String(records, StandardCharsets.US_ASCII);
+			for (int i = 0; i < frameCounts.length; i++) {
+				String record = recordsString.substring(i * recordLength, i * recordLength + recordLength);
+				assertEquals(TimecodeFactory.createTimeCode(frameRateType, frameCounts[i]).getStringRepresentation(),
+							 record);
+			}
+
+			int[] parsedFrameCounts = new int[frameCounts.length];
+			TimecodeBatch.parse(frameRateType, records, parsedFrameCounts);
+			assertArrayEquals(frameCounts, parsedFrameCounts);
+		}
+	}
+
+	@Test
+	@DisplayName ("Char records match the string representation of the Timecode objects")
+	void testFormatChars() throws Exception {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int[] frameCounts = sampleFrameCounts(frameRateType);
+			int recordLength = TimecodeBatch.recordLength(frameRateType);
+			char[] records = new char[frameCounts.length * recordLength];
+			TimecodeBatch.format(frameRateType, frameCounts, records);
+
+			for (int i = 0; i < frameCounts.length; i++) {
+				String record = new String(records, i * recordLength, recordLength);
+				assertEquals(TimecodeFactory.createTimeCode(frameRateType, frameCounts[i]).getStringRepresentation(),
+							 record);
+			}
+
+			int[] parsedFrameCounts = new int[frameCounts.length];
+			TimecodeBatch.parse(frameRateType, records, parsedFrameCounts);
+			assertArrayEquals(frameCounts, parsedFrameCounts);
+		}
+	}
+
+	@Test
+	@DisplayName ("Packed units match the units of the Timecode objects")
+	void testCountUnits() {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int[] frameCounts = sampleFrameCounts(frameRateType);
+			int[] units = new int[frameCounts.length + 1];
+			TimecodeBatch.countUnits(frameRateType, frameCounts, 0, frameCounts.length, units, 1);
+
+			for (int i = 0; i < frameCounts.length; i++) {
+				Timecode timecode = TimecodeFactory.createTimeCode(frameRateType, frameCounts[i]);
+				assertEquals(timecode.getHours(), TimecodeBatch.hoursOf(units[i + 1]));
+				assertEquals(timecode.getMinutes(), TimecodeBatch.minutesOf(units[i + 1]));
+				assertEquals(timecode.getSeconds(), TimecodeBatch.secondsOf(units[i + 1]));
+				assertEquals(timecode.getFrames(), TimecodeBatch.framesOf(units[i + 1]));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Vectorized and scalar units counters give the same result")
+	void testUnitsCounters() {
+		UnitsCounter unitsCounter = UnitsCounter.create();
+		UnitsCounter scalarUnitsCounter = new ScalarUnitsCounter();
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int[] frameCounts = new int[frameRateType.getFrameCountLimit()];
+			for (int i = 0; i < frameCounts.length; i++)
+				frameCounts[i] = i;
+			int[] units = new int[frameCounts.length];
+			int[] scalarUnits = new int[frameCounts.length];
+
+			unitsCounter.countUnits(frameRateType, frameCounts, 3, frameCounts.length - 3, units, 0);
+			scalarUnitsCounter.countUnits(frameRateType, frameCounts, 3, frameCounts.length - 3, scalarUnits, 0);
+			assertArrayEquals(scalarUnits, units);
+		}
+	}
+
+	@Test
+	@DisplayName ("Ranges of the arrays")
+	void testRanges() throws Exception {
+		int[] frameCounts = {1, 25, 90000, 121499};
+		char[] records = "xx00:00:00:0100:00:01:0001:00:00:0001:20:59:24".toCharArray();
+
+		int[] parsedFrameCounts = new int[6];
+		TimecodeBatch.parse(FPS25, records, 2, parsedFrameCounts, 1, 4);
+		assertArrayEquals(new int[] {0, 1, 25, 90000, 121499, 0}, parsedFrameCounts);
+
+		char[] formattedRecords = new char[records.length];
+		formattedRecords[0] = 'x';
+		formattedRecords[1] = 'x';
+		TimecodeBatch.format(FPS25, frameCounts, 0, 4, formattedRecords, 2);
+		assertArrayEquals(records, formattedRecords);
+
+		expectThrows(IllegalArgumentException.class,
+					 () -> TimecodeBatch.format(FPS25, frameCounts, 1, 4, formattedRecords, 0));
+		expectThrows(IllegalArgumentException.class,
+					 () -> TimecodeBatch.format(FPS25, frameCounts, 0, 4, formattedRecords, 3));
+	}
+
+	@Test
+	@DisplayName ("Invalid values throw exception")
+	void testInvalidValues() {
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> TimecodeBatch.format(FPS24, new int[] {2073600},
+																					 new char[11]));
+		assertEquals("Frame count is greater than limit 2073600", exception.getMessage());
+
+		exception = expectThrows(IllegalArgumentException.class,
+								 () -> TimecodeBatch.parse(FPS25, "12:50:30:25".toCharArray(), new int[1]));
+		assertEquals("Invalid timecode value [12, 50, 30, 25]", exception.getMessage());
+
+		TimecodeException timecodeException = expectThrows(TimecodeException.class,
+															() -> TimecodeBatch.parse(FPS25, "12:ab:23;44".toCharArray(),
+																					  new int[1]));
+		assertEquals(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT.getErrorMessage(), timecodeException.getMessage());
+
+		timecodeException = expectThrows(TimecodeException.class,
+										 () -> TimecodeBatch.parse(FPS25, "12-00-23:14".getBytes(), new int[1]));
+		assertEquals(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT.getErrorMessage(), timecodeException.getMessage());
+	}
+
+	private int[] sampleFrameCounts(FrameRateType frameRateType) {
+		int[] frameCounts = new int[frameRateType.getFrameCountLimit() / 97 + 1];
+		for (int i = 0; i < frameCounts.length; i++)
+			frameCounts[i] = i * 97;
+		frameCounts[frameCounts.length - 1] = frameRateType.getFrameCountLimit() - 1;
+		return frameCounts;
+	}
+}
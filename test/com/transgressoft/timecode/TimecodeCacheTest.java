@@ -0,0 +1,129 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeCache} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeCacheTest {
+
+	@Test
+	@DisplayName ("Cached timecodes are shared and counted as hits")
+	void testHitsAndMisses() {
+		TimecodeCache cache = new TimecodeCache(16);
+		Timecode timecode = cache.get(FPS25, 90000);
+
+		assertEquals(TimecodeFactory.createTimeCode(FPS25, 90000), timecode);
+		assertSame(timecode, cache.get(FPS25, 90000));
+		assertNotSame(timecode, cache.get(FPS24, 90000));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	@DisplayName ("Operations on cached timecodes return new timecodes")
+	void testSharedTimecodesAreNotModified() throws Exception {
+		TimecodeCache cache = new TimecodeCache(16);
+		Timecode timecode = cache.get(DF30, 17982);
+		Timecode second = TimecodeFactory.createTimeCode(DF30, 0, 0, 1, 0);
+
+		Timecode result = timecode.add(second);
+		assertNotSame(timecode, result);
+		assertEquals("00:10:01;00", result.getStringRepresentation());
+		assertEquals("00:10:00;00", timecode.getStringRepresentation());
+		assertEquals(17982, timecode.getFrameCount());
+
+		result = timecode.subtract(cache.get(DF30, 17982));
+		assertEquals(0, result.getFrameCount());
+		assertEquals(17982, timecode.getFrameCount());
+		assertSame(timecode, cache.get(DF30, 17982));
+	}
+
+	@Test
+	@DisplayName ("Referenced timecodes survive the eviction")
+	void testEviction() {
+		TimecodeCache cache = new TimecodeCache(4);
+		Timecode hourMark = cache.get(FPS25, 90000);
+		for (int frameCount = 0; frameCount < 100; frameCount++) {
+			assertSame(hourMark, cache.get(FPS25, 90000));
+			cache.get(FPS25, frameCount);
+			assertTrue(cache.size() <= cache.getCapacity());
+		}
+		assertSame(hourMark, cache.get(FPS25, 90000));
+		assertEquals(4, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNotSame(hourMark, cache.get(FPS25, 90000));
+	}
+
+	@Test
+	@DisplayName ("Evictions keep the other timecodes reachable")
+	void testManyEvictions() {
+		TimecodeCache cache = new TimecodeCache(64);
+		FrameRateType[] types = {FPS24, DF30, FPS50};
+		Timecode[] hot = new Timecode[32];
+		for (int i = 0; i < hot.length; i++)
+			hot[i] = cache.get(types[i % types.length], i * 1000);
+
+		Random random = new Random(7);
+		for (int round = 0; round < 2000; round++) {
+			for (int i = 0; i < hot.length; i++)
+				assertSame(hot[i], cache.get(types[i % types.length], i * 1000));
+			FrameRateType type = types[random.nextInt(types.length)];
+			int frameCount = 100000 + random.nextInt(5000);
+			assertEquals(frameCount, cache.get(type, frameCount).getFrameCount());
+		}
+		assertEquals(64, cache.size());
+	}
+
+	@Test
+	@DisplayName ("Invalid values throw exception")
+	void testInvalidValues() {
+		TimecodeCache cache = new TimecodeCache(4);
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> cache.get(FPS24, 2073600));
+		assertEquals("Frame count is greater than limit 2073600", exception.getMessage());
+		assertEquals(0, cache.size());
+
+		expectThrows(IllegalArgumentException.class, () -> new TimecodeCache(0));
+	}
+
+	@Test
+	@DisplayName ("Concurrent lookups return a single instance per timecode")
+	void testConcurrentLookups() throws Exception {
+		TimecodeCache cache = new TimecodeCache(64);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Timecode[]>> futures = new ArrayList<>();
+			for (int task = 0; task < 4; task++)
+				futures.add(executor.submit(() -> {
+					Timecode[] timecodes = new Timecode[32];
+					for (int round = 0; round < 100; round++)
+						for (int i = 0; i < timecodes.length; i++)
+							timecodes[i] = cache.get(FPS30, i * 1800);
+					return timecodes;
+				}));
+
+			Timecode[] expected = futures.get(0).get();
+			for (Future<Timecode[]> future : futures)
+				assertArrayEquals(expected, future.get());
+			for (int i = 0; i < expected.length; i++)
+				assertSame(expected[i], cache.get(FPS30, i * 1800));
+			assertEquals(32, cache.getMissCount());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,100 @@
+package com.transgressoft.timecode;
+
+import com.transgressoft.timecode.TimecodeIndex.*;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeIndex} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeIndexTest {
+
+	@Test
+	@DisplayName ("Floor, ceiling, nearest and rank")
+	void testQueries() {
+		for (Layout layout : Layout.values()) {
+			TimecodeIndex index = TimecodeIndex.of(FPS25, new int[]{500, 100, 300, 300, 0}, layout);
+
+			assertEquals(layout, index.getLayout());
+			assertEquals(5, index.size());
+			assertEquals(100, index.get(1));
+			assertEquals(0, index.rank(0));
+			assertEquals(2, index.rank(300));
+			assertEquals(4, index.rank(301));
+			assertEquals(5, index.rank(501));
+			assertEquals(300, index.floor(300));
+			assertEquals(300, index.floor(499));
+			assertEquals(500, index.floor(2000));
+			assertEquals(300, index.ceiling(101));
+			assertEquals(- 1, index.ceiling(501));
+			assertEquals(100, index.nearest(200));
+			assertEquals(300, index.nearest(201));
+			assertEquals(500, index.nearest(2000));
+		}
+	}
+
+	@Test
+	@DisplayName ("Queries return the same frame counts than searching all of them")
+	void testLinearSearch() {
+		Random random = new Random(42);
+		for (int size : new int[]{1, 2, 3, 4, 7, 8, 9, 100, 1023, 1024, TimecodeIndex.PARALLEL_SORT_THRESHOLD + 1}) {
+			int[] frameCounts = random.ints(size, 0, size * 4).toArray();
+			TimecodeIndex sorted = TimecodeIndex.of(FPS24, frameCounts, Layout.SORTED);
+			TimecodeIndex eytzinger = TimecodeIndex.of(FPS24, frameCounts, Layout.EYTZINGER);
+
+			for (int query = 0; query < 500; query++) {
+				int frameCount = random.nextInt(size * 4 + 2) - 1;
+				int rank = 0;
+				int floor = - 1;
+				int ceiling = - 1;
+				for (int value : frameCounts) {
+					rank += value < frameCount ? 1 : 0;
+					floor = value <= frameCount ? Math.max(floor, value) : floor;
+					ceiling = value >= frameCount && (ceiling < 0 || value < ceiling) ? value : ceiling;
+				}
+				int nearest = ceiling < 0 || (floor >= 0 && frameCount - floor <= ceiling - frameCount) ? floor : ceiling;
+				for (TimecodeIndex index : new TimecodeIndex[]{sorted, eytzinger}) {
+					assertEquals(rank, index.rank(frameCount));
+					assertEquals(floor, index.floor(frameCount));
+					assertEquals(ceiling, index.ceiling(frameCount));
+					assertEquals(nearest, index.nearest(frameCount));
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Empty index")
+	void testEmpty() {
+		for (Layout layout : Layout.values()) {
+			TimecodeIndex index = TimecodeIndex.of(FPS24, new int[0], layout);
+
+			assertEquals(0, index.rank(10));
+			assertEquals(- 1, index.floor(10));
+			assertEquals(- 1, index.ceiling(10));
+			assertEquals(- 1, index.nearest(10));
+			assertNull(index.nearest(TimecodeFactory.createTimeCode(FPS24, 10)));
+		}
+	}
+
+	@Test
+	@DisplayName ("Nearest timecode")
+	void testNearestTimecode() {
+		List<Timecode> markers = Arrays.asList(TimecodeFactory.createTimeCode(DF30, 0, 1, 0, 2),
+											   TimecodeFactory.createTimeCode(DF30, 0, 0, 59, 0));
+		TimecodeIndex index = TimecodeIndex.of(DF30, markers, Layout.EYTZINGER);
+
+		assertEquals("00:01:00;02", index.nearest(TimecodeFactory.createTimeCode(DF30, 1795)).getStringRepresentation());
+		expectThrows(IllegalArgumentException.class, () -> index.nearest(TimecodeFactory.createTimeCode(FPS30, 0)));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeIndex.of(FPS24, new int[]{- 1}));
+		expectThrows(IllegalArgumentException.class,
+					 () -> TimecodeIndex.of(FPS24, new int[]{FPS24.getFrameCountLimit()}));
+	}
+}
@@ -0,0 +1,156 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeParser} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeParserTest {
+
+	@Test
+	@DisplayName ("Parses hh:mm:ss:ff values")
+	void testParseUnits() throws Exception {
+		Timecode timecode = TimecodeParser.parse("25fps", "01:20:59:24");
+		assertEquals(TimecodeFactory.createTimeCode(FrameRateType.FPS25, 1, 20, 59, 24), timecode);
+		assertEquals(121499, timecode.getFrameCount());
+	}
+
+	@Test
+	@DisplayName ("Parses hh:mm:ss;ff values")
+	void testParseDropFrameUnits() throws Exception {
+		Timecode timecode = TimecodeParser.parse("30DF", "02:35:38;24");
+		assertEquals(279884, timecode.getFrameCount());
+	}
+
+	@Test
+	@DisplayName ("Parses hh:mm:ss:fff values of frame rates with three digit frames")
+	void testParseThreeDigitFrames() throws Exception {
+		Timecode timecode = TimecodeParser.parse("120fps", "00:00:01:119");
+		assertEquals(239, timecode.getFrameCount());
+		assertEquals("00:00:01:119", timecode.getStringRepresentation());
+		assertEquals(PackedTimecode.pack(FrameRateType.FPS120, 239), TimecodeParser.tryParse("120", "00:00:01:119"));
+
+		TimecodeException exception = expectThrows(TimecodeException.class,
+												   () -> TimecodeParser.parse("120fps", "00:00:01:19"));
+		assertEquals(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT, exception.getErrorCase());
+		assertEquals(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT,
+					 PackedTimecode.errorCase(TimecodeParser.tryParse("120fps", "00:00:01:19")));
+	}
+
+	@Test
+	@DisplayName ("Parses hh:mm:ss;ff values of 59.94 drop frame")
+	void testParseDropFrame60() throws Exception {
+		Timecode timecode = TimecodeParser.parse("59.94DF", "00:01:00;04");
+		assertEquals(3600, timecode.getFrameCount());
+		assertEquals("00:01:00;04", TimecodeParser.parse("60DF", "3600").getStringRepresentation());
+		assertEquals("00:10:00;00", TimecodeParser.parse("60DF", "35964").getStringRepresentation());
+	}
+
+	@Test
+	@DisplayName ("Parses frame count values")
+	void testParseFrameCount() throws Exception {
+		Timecode timecode = TimecodeParser.parse("25fps", "0121499");
+		assertEquals("01:20:59:24", timecode.getStringRepresentation());
+	}
+
+	@Test
+	@DisplayName ("Frame count bigger than an int is out of limit")
+	void testParseHugeFrameCount() {
+		IllegalArgumentException exception = expectThrows(IllegalArgumentException.class,
+														  () -> TimecodeParser.parse("25fps", "99999999999999"));
+		assertEquals("Frame count is greater than limit 2160000", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName ("Input types match the formats of the values")
+	void testInputTypes() throws Exception {
+		List<String> values = Arrays.asList("", "0", "0121499", "01:20:59:24", "02:35:38;24", "12:34:56:7x",
+											"12:34:56;", "1:00:00:00", "00;00:00:00", "12a", "-15", "0000:00:00",
+											"00:00:01:119", "00:00:01:1190", "00:00:01:11:");
+		for (String value : values) {
+			TimecodeInputType expectedType = null;
+			if (value.matches("\\d{2}:\\d{2}:\\d{2}[;:]\\d{2,3}"))
+				expectedType = TimecodeInputType.UNITS_INPUT_TYPE;
+			else if (value.matches("\\d+"))
+				expectedType = TimecodeInputType.FRAME_COUNT_INPUT_TYPE;
+
+			if (expectedType == null)
+				expectThrows(TimecodeException.class, () -> TimecodeInputType.fromString(value));
+			else
+				assertEquals(expectedType, TimecodeInputType.fromString(value), value);
+		}
+
+		int layout = TimecodeInputType.scan("02:35:38;24");
+		assertEquals(0, TimecodeInputType.fieldOffset(layout, TimecodeInputType.HOURS_FIELD));
+		assertEquals(3, TimecodeInputType.fieldOffset(layout, TimecodeInputType.MINUTES_FIELD));
+		assertEquals(6, TimecodeInputType.fieldOffset(layout, TimecodeInputType.SECONDS_FIELD));
+		assertEquals(9, TimecodeInputType.fieldOffset(layout, TimecodeInputType.FRAMES_FIELD));
+		layout = TimecodeInputType.scan("279884");
+		assertEquals(0, TimecodeInputType.fieldOffset(layout, TimecodeInputType.FRAMES_FIELD));
+	}
+
+	@Test
+	@DisplayName ("Values are read in one pass with the same format than they are scanned")
+	void testReadLikeScanned() throws Exception {
+		List<String> values = Arrays.asList("", "0", "0121499", "01:20:59:24", "02:35:38;24", "12:34:56:7x",
+											"12:34:56;", "1:00:00:00", "00;00:00:00", "12a", "-15", "0000:00:00",
+											"00:00:01:119", "00:00:01:1190", "00:00:01:11:", "23:59:59:119");
+		for (String value : values) {
+			long packedTimecode = TimecodeParser.tryParse("120fps", value);
+			boolean invalidFormat = PackedTimecode.isError(packedTimecode) &&
+					PackedTimecode.errorCase(packedTimecode) == TimecodeException.ErrorCase.INVALID_INPUT_FORMAT;
+			int layout = TimecodeInputType.scan(value);
+
+			assertEquals(layout == TimecodeInputType.INVALID_LAYOUT || (layout == TimecodeInputType.UNITS_LAYOUT &&
+					value.length() != FrameRateType.FPS120.getStringLength()), invalidFormat, value);
+			if (! invalidFormat && layout == TimecodeInputType.UNITS_LAYOUT)
+				assertEquals(value, PackedTimecode.format(packedTimecode));
+		}
+	}
+
+	@Test
+	@DisplayName ("Malformed values throw exception")
+	void testParseMalformedValues() {
+		List<String> malformedValues = Arrays.asList("", "1:00:00:00", "00:00:00:0", "00:00:00:000", "00;00:00:00",
+													 "00:00;00:00", "00:00:00-00", "12a", "-15", "00:00:00:", "0000:00:00");
+		for (String value : malformedValues) {
+			TimecodeException exception = expectThrows(TimecodeException.class,
+													   () -> TimecodeParser.parse("25fps", value));
+			assertEquals(TimecodeException.ErrorCase.INVALID_INPUT_FORMAT.getErrorMessage(), exception.getMessage());
+		}
+	}
+
+	@Test
+	@DisplayName ("Concurrent parsing gives the same results")
+	void testConcurrentParsing() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				int seed = thread;
+				results.add(executor.submit(() -> {
+					for (int frameCount = seed; frameCount < 2160000; frameCount += 997) {
+						Timecode byFrameCount = TimecodeParser.parse("25fps", Integer.toString(frameCount));
+						Timecode byUnits = TimecodeParser.parse("25fps", byFrameCount.getStringRepresentation());
+						if (byUnits.getFrameCount() != frameCount)
+							return false;
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results)
+				assertTrue(result.get());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+}
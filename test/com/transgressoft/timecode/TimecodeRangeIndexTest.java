@@ -0,0 +1,93 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeRangeIndex} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeRangeIndexTest {
+
+	@Test
+	@DisplayName ("Ranges that cover a frame")
+	void testCovering() throws Exception {
+		int[] ins = {100, 0, 50, 100, 75};
+		int[] outs = {200, 100, 150, 100, 76};
+		TimecodeRangeIndex index = TimecodeRangeIndex.of(FPS25, ins, outs);
+
+		assertEquals(5, index.size());
+		assertArrayEquals(new int[]{1}, index.covering(0));
+		assertArrayEquals(new int[]{1, 2, 4}, index.covering(75));
+		assertArrayEquals(new int[]{2, 0}, index.covering(100));
+		assertArrayEquals(new int[]{0}, index.covering(150));
+		assertArrayEquals(new int[0], index.covering(200));
+		assertArrayEquals(new int[]{2, 0}, index.covering(TimecodeFactory.createTimeCode(FPS25, 0, 0, 4, 0)));
+	}
+
+	@Test
+	@DisplayName ("Ranges that overlap a range")
+	void testOverlapping() throws Exception {
+		int[] ins = {100, 0, 50, 100, 75};
+		int[] outs = {200, 100, 150, 100, 76};
+		TimecodeRangeIndex index = TimecodeRangeIndex.of(FPS25, ins, outs);
+
+		assertArrayEquals(new int[]{1, 2, 4}, index.overlapping(60, 100));
+		assertArrayEquals(new int[]{1, 2, 4, 0}, index.overlapping(0, 101));
+		assertArrayEquals(new int[0], index.overlapping(60, 60));
+		assertEquals(2, index.countOverlapping(140, 300));
+		assertArrayEquals(new int[]{2, 0}, index.overlapping(TimecodeFactory.createTimeCode(FPS25, 101),
+															 TimecodeFactory.createTimeCode(FPS25, 102)));
+	}
+
+	@Test
+	@DisplayName ("Queries return the same ranges than checking all of them")
+	void testBruteForce() {
+		Random random = new Random(42);
+		for (int size : new int[]{0, 1, 2, 3, 7, 16, 100, 1000, TimecodeRangeIndex.PARALLEL_BUILD_THRESHOLD + 3}) {
+			int[] ins = new int[size];
+			int[] outs = new int[size];
+			for (int i = 0; i < size; i++) {
+				ins[i] = random.nextInt(100000);
+				outs[i] = ins[i] + random.nextInt(random.nextBoolean() ? 100 : 20000);
+			}
+			TimecodeRangeIndex index = TimecodeRangeIndex.of(FPS24, ins, outs);
+
+			for (int query = 0; query < 200; query++) {
+				int from = random.nextInt(120000);
+				int to = from + random.nextInt(500);
+				int[] expected = IntStream.range(0, size)
+										 .filter(i -> Math.max(ins[i], from) < Math.min(outs[i], to))
+										 .toArray();
+				int[] overlapping = index.overlapping(from, to);
+				Arrays.sort(overlapping);
+				assertArrayEquals(expected, overlapping);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Invalid ranges throw exception")
+	void testInvalidRanges() throws Exception {
+		expectThrows(IllegalArgumentException.class, () -> TimecodeRangeIndex.of(FPS24, new int[]{5}, new int[]{4}));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeRangeIndex.of(FPS24, new int[]{- 1}, new int[]{4}));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeRangeIndex.of(FPS24, new int[]{0}, new int[]{
+				FPS24.getFrameCountLimit() + 1}));
+		expectThrows(IllegalArgumentException.class, () -> TimecodeRangeIndex.of(FPS24, new int[]{0, 1}, new int[]{4}));
+
+		Timecode[] ins = {TimecodeFactory.createTimeCode(FPS24, 0), TimecodeFactory.createTimeCode(FPS25, 0)};
+		Timecode[] outs = {TimecodeFactory.createTimeCode(FPS24, 10), TimecodeFactory.createTimeCode(FPS25, 10)};
+		expectThrows(IllegalArgumentException.class, () -> TimecodeRangeIndex.of(ins, outs));
+
+		TimecodeRangeIndex index = TimecodeRangeIndex.of(Arrays.copyOf(ins, 1), Arrays.copyOf(outs, 1));
+		assertArrayEquals(new int[]{0}, index.covering(ins[0]));
+		expectThrows(IllegalArgumentException.class, () -> index.covering(ins[1]));
+	}
+}
@@ -0,0 +1,100 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static com.transgressoft.timecode.FrameRateType.*;
+import static com.transgressoft.timecode.TimecodeException.ErrorCase.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeRecordReader} and {@link TimecodeRecordWriter} classes.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeRecordReaderTest {
+
+	private Path file;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		file = Files.createTempFile("timecodes", ".bin");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	@DisplayName ("Records written are read by index")
+	void testWriteAndRead() throws Exception {
+		int[] frameCounts = new Random(42).ints(5000, 0, DF30.getFrameCountLimit()).toArray();
+		try (TimecodeRecordWriter writer = new TimecodeRecordWriter(FileChannel.open(file, StandardOpenOption.WRITE),
+																	DF30, 64)) {
+			writer.write(1800);
+			writer.writePacked(PackedTimecode.pack(DF30, 0, 10, 0, 0));
+			writer.write(frameCounts, 0, frameCounts.length);
+		}
+		assertEquals(TimecodeRecordReader.HEADER_SIZE + 5002L * TimecodeRecordReader.RECORD_SIZE, Files.size(file));
+
+		try (TimecodeRecordReader reader = TimecodeRecordReader.open(file)) {
+			assertEquals(DF30, reader.getFrameRateType());
+			assertEquals(5002, reader.size());
+			assertEquals(1800, reader.getFrameCount(0));
+			assertEquals("00:01:00;02", reader.getTimecode(0).getStringRepresentation());
+			int units = reader.getUnits(0);
+			assertEquals(0, TimecodeBatch.hoursOf(units));
+			assertEquals(1, TimecodeBatch.minutesOf(units));
+			assertEquals(0, TimecodeBatch.secondsOf(units));
+			assertEquals(2, TimecodeBatch.framesOf(units));
+			assertEquals(17982, reader.getFrameCount(1));
+
+			int[] read = new int[frameCounts.length];
+			reader.read(2, read, 0, read.length);
+			assertArrayEquals(frameCounts, read);
+			Timecode timecode = reader.getTimecode(4001);
+			units = reader.getUnits(4001);
+			assertEquals(timecode.getHours(), TimecodeBatch.hoursOf(units));
+			assertEquals(timecode.getFrames(), TimecodeBatch.framesOf(units));
+			expectThrows(IllegalArgumentException.class, () -> reader.getFrameCount(5002));
+		}
+	}
+
+	@Test
+	@DisplayName ("Records of other frame rates or out of the limits throw exception")
+	void testInvalidRecords() throws Exception {
+		try (TimecodeRecordWriter writer = new TimecodeRecordWriter(FileChannel.open(file, StandardOpenOption.WRITE),
+																	FPS25)) {
+			expectThrows(IllegalArgumentException.class, () -> writer.write(FPS25.getFrameCountLimit()));
+			expectThrows(IllegalArgumentException.class, () -> writer.writePacked(PackedTimecode.pack(FPS24, 1)));
+			expectThrows(IllegalArgumentException.class, () -> writer.write(new int[]{1, - 1}, 0, 2));
+		}
+		try (TimecodeRecordReader reader = TimecodeRecordReader.open(file)) {
+			assertEquals(FPS25, reader.getFrameRateType());
+		}
+	}
+
+	@Test
+	@DisplayName ("Files that are not timecode records files throw exception")
+	void testInvalidFiles() throws Exception {
+		Files.write(file, "25fps 00:00:00:05\n".getBytes());
+		expectThrows(IOException.class, () -> TimecodeRecordReader.open(file));
+
+		ByteBuffer header = ByteBuffer.allocate(TimecodeRecordReader.HEADER_SIZE);
+		header.putInt(TimecodeRecordReader.MAGIC).putShort((short) 2).put((byte) 5).put((byte) 0).put("25fps".getBytes());
+		Files.write(file, header.array());
+		expectThrows(IOException.class, () -> TimecodeRecordReader.open(file));
+
+		header.putShort(4, TimecodeRecordReader.VERSION).put(8, (byte) '9');
+		Files.write(file, header.array());
+		TimecodeException exception = expectThrows(TimecodeException.class, () -> TimecodeRecordReader.open(file));
+		assertEquals(INVALID_FRAME_RATE, exception.getErrorCase());
+	}
+}
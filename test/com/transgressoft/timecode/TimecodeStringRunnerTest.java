@@ -0,0 +1,233 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the conversion of input files of {@link TimecodeStringRunner} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeStringRunnerTest {
+
+	private static final FrameRateType[] FRAME_RATES = {FrameRateType.FPS25, FrameRateType.DF30,
+														FrameRateType.FPS120, FrameRateType.FPS24};
+	private static final int LINES = 20000;
+
+	private Path directory;
+	private Path input;
+	private Path output;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = Files.createTempDirectory("runner");
+		input = directory.resolve("input.txt");
+		output = directory.resolve("output.txt");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file : files)
+				Files.delete(file);
+		}
+		Files.delete(directory);
+	}
+
+	/**
+	 * Writes the given number of valid lines of several frame rates to the input file
+	 *
+	 * @return The lines expected in the output file
+	 */
+	private List<String> writeInput(int lines) throws IOException {
+		Random random = new Random(42);
+		List<String> inputLines = new ArrayList<>();
+		List<String> expectedLines = new ArrayList<>();
+		for (int line = 0; line < lines; line++) {
+			FrameRateType frameRateType = FRAME_RATES[random.nextInt(FRAME_RATES.length)];
+			long packedTimecode = PackedTimecode.pack(frameRateType,
+													  random.nextInt(frameRateType.getFrameCountLimit()));
+			String value = PackedTimecode.format(packedTimecode);
+			inputLines.add(frameRateType + " " + (line % 2 == 0 ? value : PackedTimecode.frameCount(packedTimecode)));
+			expectedLines.add(value);
+		}
+		Files.write(input, inputLines);
+		return expectedLines;
+	}
+
+	@Test
+	@DisplayName ("Lines converted by several threads are written in the order of the input")
+	void testParallelConversionOrder() throws Exception {
+		List<String> expectedLines = writeInput(LINES);
+		Path sequentialOutput = directory.resolve("sequential.txt");
+		run(input.toString(), "-o", output.toString(), "-j", "4");
+		run(input.toString(), "-o", sequentialOutput.toString(), "-j", "1");
+
+		assertEquals(expectedLines, Files.readAllLines(output));
+		assertEquals(expectedLines, Files.readAllLines(sequentialOutput));
+	}
+
+	@Test
+	@DisplayName ("Invalid line stops the parallel conversion")
+	void testParallelConversionInvalidLine() throws Exception {
+		List<String> expectedLines = writeInput(LINES);
+		List<String> lines = Files.readAllLines(input);
+		lines.set(LINES / 2, "25fps 10:00:00:25");
+		Files.write(input, lines);
+		run(input.toString(), "-o", output.toString(), "-j", "4");
+
+		List<String> outputLines = Files.readAllLines(output);
+		assertTrue(outputLines.size() < LINES / 2);
+		assertEquals(expectedLines.subList(0, outputLines.size()), outputLines);
+	}
+
+	@Test
+	@DisplayName ("Lines are written while the input is read, before an invalid line is reached")
+	void testStreamedConversion() throws Exception {
+		List<String> expectedLines = writeInput(LINES);
+		List<String> lines = Files.readAllLines(input);
+		lines.set(LINES - 1, "invalid line");
+		Files.write(input, lines);
+		run(input.toString(), "-o", output.toString());
+
+		List<String> outputLines = Files.readAllLines(output);
+		assertTrue(outputLines.size() > LINES / 2);
+		assertEquals(expectedLines.subList(0, outputLines.size()), outputLines);
+	}
+
+	@Test
+	@DisplayName ("Gzipped input is streamed to gzipped output")
+	void testStreamedGzipConversion() throws Exception {
+		List<String> expectedLines = writeInput(LINES);
+		Path gzipInput = directory.resolve("input.txt" + GzipFiles.EXTENSION);
+		Path gzipOutput = directory.resolve("output.txt" + GzipFiles.EXTENSION);
+		try (OutputStream gzip = GzipFiles.newOutputStream(gzipInput.toFile(), false)) {
+			Files.copy(input, gzip);
+		}
+		run(gzipInput.toString(), "-o", gzipOutput.toString());
+
+		List<String> outputLines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(GzipFiles.newInputStream(gzipOutput.toFile())))) {
+			String line;
+			while ((line = reader.readLine()) != null)
+				outputLines.add(line);
+		}
+		assertEquals(expectedLines, outputLines);
+	}
+
+	@Test
+	@DisplayName ("Invalid lines are written to the reject file and counted by error case")
+	void testKeepGoingRejects() throws Exception {
+		List<String> expectedLines = writeInput(LINES);
+		List<String> lines = Files.readAllLines(input);
+		lines.set(9, "25fps 10:00:00:25");
+		lines.set(LINES / 2, "31fps 00:00:00:00");
+		lines.set(LINES / 2 + 1, "invalid line format");
+		lines.set(LINES - 1, "30DF 00:01:00;00");
+		Files.write(input, lines);
+		expectedLines.remove(LINES - 1);
+		expectedLines.remove(LINES / 2 + 1);
+		expectedLines.remove(LINES / 2);
+		expectedLines.remove(9);
+		List<String> expectedRejects = Arrays.asList("10 INVALID_TIMECODE 25fps 10:00:00:25",
+													 (LINES / 2 + 1) + " INVALID_FRAME_RATE 31fps 00:00:00:00",
+													 (LINES / 2 + 2) + " INVALID_LINE_FORMAT invalid line format",
+													 LINES + " INVALID_TIMECODE 30DF 00:01:00;00");
+		Path rejects = directory.resolve("rejects.txt");
+
+		for (String threads : new String[] {"1", "4"}) {
+			String report = runPrintingReport(input.toString(), "-o", output.toString(), "-j", threads, "-k", "-r",
+											  rejects.toString());
+
+			assertEquals(expectedLines, Files.readAllLines(output));
+			assertEquals(expectedRejects, Files.readAllLines(rejects));
+			assertTrue(report.contains("Converted lines: " + (LINES - 4)));
+			assertTrue(report.contains("Rejected lines: 4"));
+			assertTrue(report.contains("INVALID_TIMECODE: 2"));
+			assertTrue(report.contains("INVALID_FRAME_RATE: 1"));
+			assertTrue(report.contains("INVALID_LINE_FORMAT: 1"));
+		}
+	}
+
+	@Test
+	@DisplayName ("Last frame of the day of 30DF is converted from a file like from the command line")
+	void testLastDf30Frame() throws Exception {
+		Files.write(input, Arrays.asList("30DF 23:59:59;29", "30DF 2589406", "25fps 10:00:00:00"));
+		run(input.toString(), "-o", output.toString());
+
+		assertEquals(Arrays.asList("23:59:59;29", "23:59:59;28", "10:00:00:00"), Files.readAllLines(output));
+	}
+
+	@Test
+	@DisplayName ("Last frame of the day of 30DF is read back from the records file written with it")
+	void testLastDf30FrameRecordsRoundTrip() throws Exception {
+		Path rejects = directory.resolve("rejects.txt");
+		Path text = directory.resolve("text.txt");
+		List<String> values = Arrays.asList("00:00:00;00", "23:59:59;28", "23:59:59;29");
+		List<String> lines = new ArrayList<>();
+		for (String value : values)
+			lines.add("30DF " + value);
+		Files.write(input, lines);
+		run(input.toString(), "-o", output.toString(), "--out-format=bin");
+		run(output.toString(), "-o", text.toString(), "-k", "-r", rejects.toString(), "--in-format=bin");
+
+		assertEquals(values, Files.readAllLines(text));
+		assertEquals(Collections.emptyList(), Files.readAllLines(rejects));
+	}
+
+	@Test
+	@DisplayName ("Records output with no converted line has the header of the first frame rate requested")
+	void testEmptyRecordsOutput() throws Exception {
+		Path rejects = directory.resolve("rejects.txt");
+		Path text = directory.resolve("text.txt");
+		Files.write(input, Arrays.asList("30DF 00:01:00;00", "24fps 99:00:00:00"));
+		run(input.toString(), "-o", output.toString(), "-k", "-r", rejects.toString(), "--out-format=bin");
+
+		try (TimecodeRecordReader reader = TimecodeRecordReader.open(output)) {
+			assertEquals(FrameRateType.DF30, reader.getFrameRateType());
+			assertEquals(0, reader.size());
+		}
+		run(output.toString(), "-o", text.toString(), "--in-format=bin");
+		assertEquals(Collections.emptyList(), Files.readAllLines(text));
+	}
+
+	@Test
+	@DisplayName ("Records output with no valid frame rate requested has the header of the default one")
+	void testEmptyRecordsOutputDefaultFrameRate() throws Exception {
+		Path rejects = directory.resolve("rejects.txt");
+		Files.write(input, Arrays.asList("invalid line", "31fps 00:00:00:00"));
+		run(input.toString(), "-o", output.toString(), "-k", "-r", rejects.toString(), "--out-format=bin");
+
+		try (TimecodeRecordReader reader = TimecodeRecordReader.open(output)) {
+			assertEquals(FrameRateType.FPS25, reader.getFrameRateType());
+			assertEquals(0, reader.size());
+		}
+	}
+
+	private void run(String... args) {
+		TimecodeStringRunner.main(args);
+	}
+
+	/**
+	 * @return What the runner printed to the standard output
+	 */
+	private String runPrintingReport(String... args) {
+		PrintStream standardOutput = System.out;
+		ByteArrayOutputStream printed = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(printed, true));
+		try {
+			run(args);
+		}
+		finally {
+			System.setOut(standardOutput);
+		}
+		return printed.toString();
+	}
+}
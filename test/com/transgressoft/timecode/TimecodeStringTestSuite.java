@@ -18,6 +18,24 @@ import org.junit.runners.Suite.*;
 @SuiteClasses ({
 			AcceptanceTest.class,
 			TimecodeStringTests.class,
+			FrameRateTypeTest.class,
+			TimecodeParserTest.class,
+			PackedTimecodeTest.class,
+			TimecodeBatchTest.class,
+			TimecodeCacheTest.class,
+			ConversionReportTest.class,
+			GenericTimecodeTest.class,
+			TimecodeUnitsTest.class,
+			FrameRateConverterTest.class,
+			TimecodeRangeIndexTest.class,
+			TimecodeIndexTest.class,
+			EdlReaderTest.class,
+			EdlWriterTest.class,
+			TimecodeRecordReaderTest.class,
+			AsciiTimecodeWriterTest.class,
+			GzipFilesTest.class,
+			TimecodeStringRunnerTest.class,
+			MappedFileConverterTest.class,
 			Df30TimecodeTest.class,
 			Fps25TimecodeTest.class,
 			Fps24Timecode.class,
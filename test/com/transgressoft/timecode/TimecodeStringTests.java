@@ -40,6 +40,19 @@ public class TimecodeStringTests {
 		assertTrue(! timecodeBaseOne.equals(timecodeBaseTwo));
 	}
 
+	@Test
+	@DisplayName ("Timecodes created by units and by frame count are equal")
+	void testTimecodesByUnitsAndByFrameCountEqual() {
+		Timecode byUnits = TimecodeFactory.createTimeCode(FrameRateType.DF30, 10, 10, 0, 2);
+		Timecode byFrameCount = TimecodeFactory.createTimeCode(FrameRateType.DF30, byUnits.getFrameCount());
+
+		assertEquals(byUnits, byFrameCount);
+		assertEquals(byUnits.hashCode(), byFrameCount.hashCode());
+		assertEquals("10:10:00;02", byFrameCount.getStringRepresentation());
+		assertEquals(10, byFrameCount.getMinutes());
+		assertEquals(2, byFrameCount.getFrames());
+	}
+
 	@Test
 	@DisplayName ("TimecodeException constructor tests")
 	void testTimecodeExceptionConstructors() {
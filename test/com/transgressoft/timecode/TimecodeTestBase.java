@@ -1,7 +1,5 @@
 package com.transgressoft.timecode;
 
-import com.transgressoft.timecode.df30.*;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -23,7 +21,7 @@ public class TimecodeTestBase {
 	protected void assertTimecodeOperationWithUnits(String operationLabel, int expectedHours, int expectedMinutes,
 			int expectedSeconds, int expectedFrames, int expectedFrameCount, Timecode actualTimecode) {
 
-		boolean isDropFrame = actualTimecode instanceof Df30Timecode;
+		boolean isDropFrame = actualTimecode.getFrameRateType().isDropFrame();
 		StringBuilder stringBuilder = new StringBuilder();
 		stringBuilder.append(String.format("%02d", expectedHours) + ":");
 		stringBuilder.append(String.format("%02d", expectedMinutes) + ":");
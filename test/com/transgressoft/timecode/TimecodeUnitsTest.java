@@ -0,0 +1,83 @@
+package com.transgressoft.timecode;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimecodeUnits} class.
+ *
+ * @author Octavio Calleya
+ * @version 1.0
+ */
+public class TimecodeUnitsTest {
+
+	@Test
+	@DisplayName ("Units match the ones computed with integer divisions")
+	void testFromFrameCount() {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int frameMax = frameRateType.getFrameMax();
+			int dropFrames = frameRateType.getDropFrames();
+			int framesPerMinute = 60 * frameMax - dropFrames;
+			int framesPerTenMinutes = 600 * frameMax - 9 * dropFrames;
+			for (int frameCount = 0; frameCount < frameRateType.getFrameCountLimit(); frameCount += 997) {
+				int labelFrames = frameCount;
+				if (dropFrames != 0)
+					labelFrames += 9 * dropFrames * (frameCount / framesPerTenMinutes) +
+							dropFrames * ((frameCount % framesPerTenMinutes - dropFrames) / framesPerMinute);
+				int units = TimecodeUnits.fromFrameCount(frameRateType, frameCount);
+				int hours = TimecodeUnits.hours(units);
+				int minutes = TimecodeUnits.minutes(units);
+				int seconds = TimecodeUnits.seconds(units);
+				int frames = TimecodeUnits.frames(units);
+
+				assertEquals(labelFrames / (3600 * frameMax), hours);
+				assertEquals(labelFrames / (60 * frameMax) % 60, minutes);
+				assertEquals(labelFrames / frameMax % 60, seconds);
+				assertEquals(labelFrames % frameMax, frames);
+				assertEquals(frameCount, TimecodeUnits.countFrames(frameRateType, hours, minutes, seconds, frames));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName ("Divisions by the inverse are exact up to 25 bits")
+	void testDivisor() {
+		for (int divisor : new int[]{1, 3, 24, 25, 30, 60, 127, 1798, 3596, 17982, 35964, 76200}) {
+			TimecodeUnits.Divisor inverse = new TimecodeUnits.Divisor(divisor);
+			for (int dividend = 0; dividend < 1 << 25; dividend += 9973)
+				assertEquals(dividend / divisor, inverse.divide(dividend));
+			assertEquals(((1 << 25) - 1) / divisor, inverse.divide((1 << 25) - 1));
+		}
+	}
+
+	@Test
+	@DisplayName ("Units under zero are counted back from the end of the day")
+	void testUnderZero() {
+		for (FrameRateType frameRateType : FrameRateType.values()) {
+			int frameMax = frameRateType.getFrameMax();
+			int dayFrames = 24 * 6 * frameRateType.getFramesPerTenMinutes();
+			int lastFrame = TimecodeUnits.underZero(frameRateType, - 1);
+			int firstDroppedMinute = TimecodeUnits.underZero(frameRateType, 60 * frameMax - dayFrames);
+
+			assertEquals(59, TimecodeUnits.minutes(lastFrame));
+			assertEquals(59, TimecodeUnits.seconds(lastFrame));
+			assertEquals(frameMax - 1, TimecodeUnits.frames(lastFrame));
+			assertEquals(1, TimecodeUnits.minutes(firstDroppedMinute));
+			assertEquals(0, TimecodeUnits.seconds(firstDroppedMinute));
+			assertEquals(frameRateType.getDropFrames(), TimecodeUnits.frames(firstDroppedMinute));
+		}
+	}
+
+	@Test
+	@DisplayName ("Packed units keep negative hours")
+	void testNegativeHours() {
+		int units = TimecodeUnits.pack(- 23, 59, 59, 119);
+
+		assertNotEquals(TimecodeUnits.NOT_DERIVED, units);
+		assertEquals(- 23, TimecodeUnits.hours(units));
+		assertEquals(59, TimecodeUnits.minutes(units));
+		assertEquals(59, TimecodeUnits.seconds(units));
+		assertEquals(119, TimecodeUnits.frames(units));
+	}
+}
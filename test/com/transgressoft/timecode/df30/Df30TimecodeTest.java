@@ -111,9 +111,9 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.DF30, 0, 0, 0, 0);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 15, 6, 0, 12);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("15:06:00;12 + 00:00:00;00", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("15:06:00;12 + 00:00:00;00", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -123,9 +123,9 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.DF30, 0, 0, 0, 10);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 23, 0, 0, 4);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("22:59:59;24 + 00:00:00;10", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("22:59:59;24 + 00:00:00;10", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -135,16 +135,16 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.DF30, 11, 6, 4, 10);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 21, 11, 7, 22);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("10:05:03;14 + 11:06:04;10", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:03;14 + 11:06:04;10", expectedTimecode, resultTimecode);
 
 			Timecode actualTimecode2 = TimecodeFactory.createTimeCode(FrameRateType.DF30, 11, 6, 4, 10);
 			Timecode timecodeToAdd2 = TimecodeFactory.createTimeCode(FrameRateType.DF30, 10, 5, 3, 14);
 
-			actualTimecode2.add(timecodeToAdd2);
+			Timecode resultTimecode2 = actualTimecode2.add(timecodeToAdd2);
 
-			assertTimecodeOperation("11:06:04;10 + 10:05:03;14", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("11:06:04;10 + 10:05:03;14", expectedTimecode, resultTimecode2);
 		}
 	}
 
@@ -164,10 +164,10 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			int expectedFrames = 0;
 			int expectedFrameCount = - 431568;
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
 			assertTimecodeOperationWithUnits("07:50:00;17 - 11:50:00;17", expectedHours, expectedMinutes,
-											 expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+											 expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
 		}
 
 		@Test
@@ -182,10 +182,10 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			int expectedFrames = 26;
 			int expectedFrameCount = - 429744;
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
 			assertTimecodeOperationWithUnits("07:12:60;11 - 11:11:05;15", expectedHours, expectedMinutes,
-											 expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+											 expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
 		}
 
 		@Test
@@ -200,10 +200,10 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			int expectedFrames = 0;
 			int expectedFrameCount = - 429918;
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
 			assertTimecodeOperationWithUnits("07:12:00;11 - 11:11:05;09", expectedHours, expectedMinutes,
-											 expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+											 expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
 		}
 
 		@Test
@@ -219,10 +219,10 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			int expectedFrameCount = - 429924;
 
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
 			assertTimecodeOperationWithUnits("10:05:15;14 - 02:14:21;10", expectedHours, expectedMinutes,
-											 expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+											 expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
 
 		}
 
@@ -246,9 +246,9 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.DF30, 5, 5, 15, 20);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 0, 0, 0, 0);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("05:05:15;20 - 05:05:15;20", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("05:05:15;20 - 05:05:15;20", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -271,9 +271,9 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.DF30, 0, 0, 0, 0);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 10, 5, 15, 14);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("10:05:15;14 - 00:00:00;00", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:15;14 - 00:00:00;00", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -283,9 +283,9 @@ public class Df30TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.DF30, 2, 14, 21, 10);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.DF30, 7, 50, 54, 2);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("10:05:15;14 - 02:14:21;10", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:15;14 - 02:14:21;10", expectedTimecode, resultTimecode);
 		}
 	}
 }
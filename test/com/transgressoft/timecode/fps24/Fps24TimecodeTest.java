@@ -110,9 +110,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 0, 0, 0, 0);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 15, 6, 0, 12);
 
-            actualTimecode.add(timecodeToAdd);
+            Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-            assertTimecodeOperation("15:06:00:12 + 00:00:00:00", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("15:06:00:12 + 00:00:00:00", expectedTimecode, resultTimecode);
         }
 
         @Test
@@ -122,9 +122,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 0, 0, 0, 1);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 23, 0, 0, 0);
 
-            actualTimecode.add(timecodeToAdd);
+            Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-            assertTimecodeOperation("22:59:59:23 + 00:00:00:01", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("22:59:59:23 + 00:00:00:01", expectedTimecode, resultTimecode);
         }
 
         @Test
@@ -134,16 +134,16 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 11, 6, 4, 10);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 21, 11, 8, 0);
 
-            actualTimecode.add(timecodeToAdd);
+            Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-            assertTimecodeOperation("10:05:03:14 + 11:06:04:10", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("10:05:03:14 + 11:06:04:10", expectedTimecode, resultTimecode);
 
             actualTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 11, 6, 4, 10);
             timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 10, 5, 3, 14);
 
-            actualTimecode.add(timecodeToAdd);
+            resultTimecode = actualTimecode.add(timecodeToAdd);
 
-            assertTimecodeOperation("11:06:04:10 + 10:05:03:14", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("11:06:04:10 + 10:05:03:14", expectedTimecode, resultTimecode);
         }
     }
 
@@ -163,9 +163,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             int expectedFrames = 21;
             int expectedFrameCount = -80403;
 
-            actualTimecode.subtract(timecodeToSubtract);
+            Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
             assertTimecodeOperationWithUnits("05:05:15:20 - 06:01:05:23", expectedHours, expectedMinutes,
-                                             expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+                                             expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
         }
 
         @Test
@@ -187,9 +187,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 5, 5, 15, 20);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 0, 0, 0, 0);
 
-            actualTimecode.subtract(timecodeToSubtract);
+            Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-            assertTimecodeOperation("05:05:15:20 - 05:05:15:20", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("05:05:15:20 - 05:05:15:20", expectedTimecode, resultTimecode);
         }
 
         @Test
@@ -212,9 +212,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 0, 0, 0, 0);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 10, 5, 15, 14);
 
-            actualTimecode.subtract(timecodeToSubtract);
+            Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-            assertTimecodeOperation("10:05:15:14 - 10:05:15:14", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("10:05:15:14 - 10:05:15:14", expectedTimecode, resultTimecode);
         }
 
         @Test
@@ -224,9 +224,9 @@ public class Fps24TimecodeTest extends TimecodeTestBase {
             Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 5, 3, 4, 10);
             Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS24, 5, 2, 11, 4);
 
-            actualTimecode.subtract(timecodeToSubtract);
+            Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-            assertTimecodeOperation("10:05:15:14 - 05:03:04:10", expectedTimecode, actualTimecode);
+            assertTimecodeOperation("10:05:15:14 - 05:03:04:10", expectedTimecode, resultTimecode);
         }
     }
 } 
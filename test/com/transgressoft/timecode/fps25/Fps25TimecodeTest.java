@@ -103,6 +103,20 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			assertEquals("Result is greater than limit", exception.getMessage());
 		}
 
+		@Test
+		@DisplayName ("Addition returns a new timecode")
+		void testFps25TimecodeAdditionStringRepresentation() throws Exception {
+			Timecode actualTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 15, 6, 0, 12);
+			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 0, 0, 0, 13);
+
+			assertEquals("15:06:00:12", actualTimecode.getStringRepresentation());
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
+			assertNotSame(actualTimecode, resultTimecode);
+			assertEquals("15:06:00:12", actualTimecode.getStringRepresentation());
+			assertEquals("15:06:01:00", resultTimecode.getStringRepresentation());
+			assertSame(resultTimecode.getStringRepresentation(), resultTimecode.getStringRepresentation());
+		}
+
 		@Test
 		@DisplayName ("Addition of zero")
 		void testFps25TimecodeAdditionOfZero() throws Exception {
@@ -110,9 +124,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 0, 0, 0, 0);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 15, 6, 0, 12);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("15:06:00:12 + 00:00:00:00", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("15:06:00:12 + 00:00:00:00", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -122,9 +136,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 0, 0, 0, 1);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 23, 0, 0, 0);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("22:59:59:24 + 00:00:00:01", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("22:59:59:24 + 00:00:00:01", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -134,16 +148,16 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 11, 6, 4, 10);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 21, 11, 7, 24);
 
-			actualTimecode.add(timecodeToAdd);
+			Timecode resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("10:05:03:14 + 11:06:04:10", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:03:14 + 11:06:04:10", expectedTimecode, resultTimecode);
 
 			actualTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 11, 6, 4, 10);
 			timecodeToAdd = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 10, 5, 3, 14);
 
-			actualTimecode.add(timecodeToAdd);
+			resultTimecode = actualTimecode.add(timecodeToAdd);
 
-			assertTimecodeOperation("11:06:04:10 + 10:05:03:14", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("11:06:04:10 + 10:05:03:14", expectedTimecode, resultTimecode);
 		}
 	}
 
@@ -163,9 +177,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			int expectedFrames = 22;
 			int expectedFrameCount = -83753;
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 			assertTimecodeOperationWithUnits("05:05:15:20 - 06:01:05:23", expectedHours, expectedMinutes,
-											 expectedSeconds, expectedFrames, expectedFrameCount, actualTimecode);
+											 expectedSeconds, expectedFrames, expectedFrameCount, resultTimecode);
 		}
 
 		@Test
@@ -187,9 +201,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 5, 5, 15, 20);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 0, 0, 0, 0);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("05:05:15:20 - 05:05:15:20", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("05:05:15:20 - 05:05:15:20", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -212,9 +226,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 0, 0, 0, 0);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 10, 5, 15, 14);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("10:05:15:14 - 10:05:15:14", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:15:14 - 10:05:15:14", expectedTimecode, resultTimecode);
 		}
 
 		@Test
@@ -224,9 +238,9 @@ public class Fps25TimecodeTest extends TimecodeTestBase {
 			Timecode timecodeToSubtract = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 5, 3, 4, 10);
 			Timecode expectedTimecode = TimecodeFactory.createTimeCode(FrameRateType.FPS25, 5, 2, 11, 4);
 
-			actualTimecode.subtract(timecodeToSubtract);
+			Timecode resultTimecode = actualTimecode.subtract(timecodeToSubtract);
 
-			assertTimecodeOperation("10:05:15:14 - 05:03:04:10", expectedTimecode, actualTimecode);
+			assertTimecodeOperation("10:05:15:14 - 05:03:04:10", expectedTimecode, resultTimecode);
 		}
 	}
 }